@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.jcabi.xml.XML;
+import com.rultor.spi.Snapshot;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import lombok.ToString;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+
+/**
+ * Talks of one cycle of {@link Routine}.
+ *
+ * <p>Active talks are fetched once, when the cycle starts, and the same
+ * {@link Snapshot}s of them are given to the starter, to the agents of
+ * each talk and to the closer, so that each talk is read from the
+ * storage only once per cycle; {@link com.rultor.dynamo.DyTalks} fetches
+ * the XML of all of them that are not in memory in batches, right
+ * when they are listed. Everything else goes to the origin.</p>
+ *
+ * <p>Modifications made by super agents stay in the snapshots until
+ * {@link #flush()} is called. The class is NOT thread-safe, but each
+ * snapshot may be used by its own thread.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@SuppressWarnings("PMD.TooManyMethods")
+final class Cycle implements Talks {
+
+    /**
+     * Original talks.
+     */
+    private final transient Talks origin;
+
+    /**
+     * Active talks, fetched when the cycle started.
+     */
+    private final transient List<Snapshot> snapshots;
+
+    /**
+     * Ctor.
+     * @param talks Original talks
+     */
+    Cycle(final Talks talks) {
+        this.origin = talks;
+        this.snapshots = new ListOf<>(
+            new Mapped<>(Snapshot::of, talks.active())
+        );
+    }
+
+    /**
+     * Write all modifications of the active talks.
+     * @throws IOException If fails
+     */
+    public void flush() throws IOException {
+        for (final Snapshot snapshot : this.snapshots) {
+            snapshot.flush();
+        }
+    }
+
+    @Override
+    public boolean exists(final long number) {
+        return this.origin.exists(number);
+    }
+
+    @Override
+    public Talk get(final long number) {
+        return this.origin.get(number);
+    }
+
+    @Override
+    public boolean exists(final String name) {
+        return this.origin.exists(name);
+    }
+
+    @Override
+    public Talk get(final String name) {
+        return this.origin.get(name);
+    }
+
+    @Override
+    public void delete(final String name) {
+        this.origin.delete(name);
+    }
+
+    @Override
+    public void create(final String repo, final String name)
+        throws IOException {
+        this.origin.create(repo, name);
+    }
+
+    @Override
+    public List<Talk> active() {
+        return Collections.<Talk>unmodifiableList(this.snapshots);
+    }
+
+    @Override
+    public Iterable<Talk> recent() {
+        return this.origin.recent();
+    }
+
+    @Override
+    public Iterable<Talk> siblings(final String repo, final Date since) {
+        return this.origin.siblings(repo, since);
+    }
+
+    @Override
+    public Iterable<XML> archive(final String name) {
+        return this.origin.archive(name);
+    }
+
+}
@@ -20,13 +20,18 @@ import com.jcabi.github.mock.MkGithub;
 import com.jcabi.github.wire.RetryCarefulWire;
 import com.jcabi.log.Logger;
 import com.jcabi.urn.URN;
+import com.rultor.agents.github.CachingWire;
 import com.rultor.cached.CdTalks;
+import com.rultor.cached.Memo;
 import com.rultor.dynamo.DyTalks;
+import com.rultor.local.LcTalks;
 import com.rultor.spi.Pulse;
+import com.rultor.spi.Schedule;
 import com.rultor.spi.Talks;
 import com.rultor.spi.Tick;
 import com.rultor.web.TkApp;
 import io.sentry.Sentry;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -79,19 +84,20 @@ public final class Entry {
         if (!dsn.startsWith("test")) {
             Sentry.init(dsn);
         }
-        final Talks talks = new CdTalks(
-            new DyTalks(
-                this.dynamo(), this.sttc().counters().get("rt-talk")
-            )
-        );
+        final Memo memo = new Memo();
+        final Talks talks = new CdTalks(this.storage(), memo);
+        final Schedule schedule = new Schedule();
         Logger.info(this, "Starting the Routine...");
         final Routine routine = new Routine(
-            talks, Entry.pulse(), this.github(), this.sttc()
+            talks, Entry.pulse(), this.github(), this.sttc(), schedule
         );
         Logger.info(this, "Starting the web front to run forever...");
         try {
             new FtCli(
-                new TkApp(talks, Entry.pulse(), new Toggles.InFile()),
+                new TkApp(
+                    talks, Entry.pulse(), new Toggles.InFile(), memo,
+                    schedule, this.github().users().self().login()
+                ),
                 this.arguments
             ).start(Exit.NEVER);
         } finally {
@@ -99,6 +105,29 @@ public final class Entry {
         }
     }
 
+    /**
+     * Storage of talks, DynamoDB or a local directory, if the
+     * {@code rultor.talks.dir} system property is set. Modifications
+     * of talks in DynamoDB are added to the journal only if the
+     * {@code rultor.journal} system property is {@code true}.
+     * @return Talks
+     * @throws IOException If fails
+     */
+    private Talks storage() throws IOException {
+        final String dir = System.getProperty("rultor.talks.dir");
+        final Talks talks;
+        if (dir == null) {
+            talks = new DyTalks(
+                this.dynamo(), this.sttc().counters().get("rt-talk"),
+                Boolean.getBoolean("rultor.journal")
+            );
+        } else {
+            Logger.warn(this, "Talks are stored locally, in %s", dir);
+            talks = new LcTalks(new File(dir));
+        }
+        return talks;
+    }
+
     /**
      * Make github.
      * @return Github
@@ -116,7 +145,7 @@ public final class Entry {
                 new RtGithub(token).entry().through(
                     RetryCarefulWire.class,
                     100
-                )
+                ).through(CachingWire.class)
             );
         }
         Logger.info(this, "GitHub object instantiated...");
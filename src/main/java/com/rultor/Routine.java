@@ -14,45 +14,70 @@ import com.rultor.agents.github.qtn.DefaultBranch;
 import com.rultor.profiles.Profiles;
 import com.rultor.spi.Profile;
 import com.rultor.spi.Pulse;
+import com.rultor.spi.Schedule;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import com.rultor.spi.Tick;
 import io.sentry.Sentry;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.validation.constraints.NotNull;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.list.ListOf;
 
 /**
  * Routine.
  *
+ * <p>The chain of agents of each active talk is executed in its own
+ * thread, by {@link Workers}, so that one slow or broken talk doesn't
+ * hold up or break all other talks. Only talks that are due, according
+ * to the {@link Schedule}, are processed in each cycle.</p>
+ *
+ * <p>How many talks are processed at the same time and how long one
+ * talk may take are configured with the {@code rultor.threads} and
+ * {@code rultor.timeout} (in minutes) system properties.</p>
+ *
+ * <p>A cycle starts once a minute, or a few seconds after a talk
+ * was woken up in the {@link Schedule}, for example by a GitHub
+ * webhook, whichever comes first.</p>
+ *
+ * <p>The starter, which finds new talks, mostly in GitHub notifications,
+ * runs only once in ten minutes, in a cycle that was not started by a
+ * wake up, since the talks woken up are known already and polling
+ * GitHub more often only spends its rate limit.</p>
+ *
  * @since 1.50
- * @todo #1125:30min Routine should be delegate execution to separate threads.
- *  Currently com.rultor.Routine#process() is sequentially processing all Talks
- *  and breaking out of this sequential processing to log occurring exceptions.
- *  This leads to issues in one build breaking all builds globally.
- *  This should be reworked to run the chain of Agents for each talk in a
- *  separate thread, not interfering with the main Routine in error cases.
- *  Once this is done the swallowing of generic exceptions, added to
- *  circumvent this issue, in
- *  com.rultor.agents.github.Reports#process(com.jcabi.xml.XML) should be
- *  removed.
  */
-@ScheduleWithFixedDelay
+@ScheduleWithFixedDelay(delay = 5, unit = TimeUnit.SECONDS)
 @SuppressWarnings({"PMD.DoNotUseThreads",
     "PMD.ConstructorShouldDoInitialization"})
 final class Routine implements Runnable, Closeable {
 
     /**
-     * How many talks to process in one cycle.
+     * How many talks to process at the same time, by default.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Maximum time for one talk, in minutes, by default.
+     */
+    private static final long TIMEOUT = 10L;
+
+    /**
+     * How often to start a cycle, if nothing was woken up, in milliseconds.
+     */
+    private static final long PERIOD = TimeUnit.MINUTES.toMillis(1L);
+
+    /**
+     * How often to run the starter, in milliseconds.
      */
-    private static final int MAX_TALKS = 16;
+    private static final long STARTER = TimeUnit.MINUTES.toMillis(10L);
 
     /**
      * Shutting down?
@@ -64,6 +89,16 @@ final class Routine implements Runnable, Closeable {
      */
     private final transient long start = System.currentTimeMillis();
 
+    /**
+     * When the last cycle started.
+     */
+    private final transient AtomicLong last = new AtomicLong();
+
+    /**
+     * When the starter ran last time.
+     */
+    private final transient AtomicLong started = new AtomicLong();
+
     /**
      * Ticks.
      */
@@ -79,6 +114,16 @@ final class Routine implements Runnable, Closeable {
      */
     private final transient Agents agents;
 
+    /**
+     * Workers, processing talks in parallel.
+     */
+    private final transient Workers workers;
+
+    /**
+     * Schedule of talks.
+     */
+    private final transient Schedule schedule;
+
     /**
      * Ctor.
      * @param tlks Talks
@@ -89,30 +134,88 @@ final class Routine implements Runnable, Closeable {
      */
     Routine(@NotNull final Talks tlks, final Pulse pls,
         final Github github, final Sttc sttc) {
+        this(tlks, pls, github, sttc, new Schedule());
+    }
+
+    /**
+     * Ctor.
+     * @param tlks Talks
+     * @param pls Pulse
+     * @param github Github client
+     * @param sttc Sttc client
+     * @param sch Schedule of talks
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    Routine(@NotNull final Talks tlks, final Pulse pls,
+        final Github github, final Sttc sttc, final Schedule sch) {
+        this(
+            tlks, pls, github, sttc, sch,
+            Integer.getInteger("rultor.threads", Routine.THREADS),
+            TimeUnit.MINUTES.toMillis(
+                Long.getLong("rultor.timeout", Routine.TIMEOUT)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param tlks Talks
+     * @param pls Pulse
+     * @param github Github client
+     * @param sttc Sttc client
+     * @param sch Schedule of talks
+     * @param threads How many talks to process at the same time
+     * @param timeout Maximum time for one talk, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Routine(@NotNull final Talks tlks, final Pulse pls,
+        final Github github, final Sttc sttc, final Schedule sch,
+        final int threads, final long timeout) {
         this.talks = tlks;
         this.pulse = pls;
-        this.agents = new Agents(github, sttc);
+        this.agents = new Agents(github, sttc, tlks);
+        this.schedule = sch;
+        this.workers = new Workers(threads, timeout);
     }
 
     @Override
     public void close() {
         this.down.set(true);
+        this.workers.close();
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public void run() {
+        final long now = System.currentTimeMillis();
+        final boolean periodic = now - this.last.get() >= Routine.PERIOD;
+        if (periodic || this.schedule.alarmed()) {
+            this.last.set(now);
+            final boolean starting = periodic
+                && now - this.started.get() >= Routine.STARTER;
+            if (starting) {
+                this.started.set(now);
+            }
+            this.cycle(starting);
+        }
+    }
+
+    /**
+     * Run one cycle.
+     * @param starting Run the starter in this cycle?
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void cycle(final boolean starting) {
         final long begin = System.currentTimeMillis();
         try {
-            final List<Talk> active = new ListOf<>(this.talks.active());
+            final Cycle cycle = new Cycle(this.talks);
             Logger.info(
                 this, "Start processing active talks %s...",
                 new Mapped<>(
                     talk -> String.format("%s:%s", talk.name(), talk.number()),
-                    active
+                    cycle.active()
                 )
             );
-            final int processed = this.unsafe(active);
+            final int processed = this.unsafe(cycle, starting);
             if (Logger.isInfoEnabled(this)) {
                 Logger.info(
                     this,
@@ -141,18 +244,20 @@ final class Routine implements Runnable, Closeable {
 
     /**
      * Routine every-minute proc.
-     * @param active List of active talks
+     * @param cycle Talks of this cycle
+     * @param starting Run the starter in this cycle?
      * @return Total talks processed
      * @throws IOException If fails
      */
     @Timeable(limit = 20, unit = TimeUnit.MINUTES)
-    private int unsafe(final List<Talk> active) throws IOException {
+    private int unsafe(final Cycle cycle, final boolean starting)
+        throws IOException {
         final long begin = System.currentTimeMillis();
         int total = 0;
         if (new Toggles.InFile().readOnly()) {
             Logger.info(this, "read-only mode");
         } else {
-            total = this.process(active);
+            total = this.process(cycle, starting);
         }
         this.pulse.add(
             new Tick(begin, System.currentTimeMillis() - begin, total)
@@ -162,29 +267,51 @@ final class Routine implements Runnable, Closeable {
 
     /**
      * Routine every-minute proc.
-     * @param active List of active talks
+     *
+     * <p>The starter, the agents of each talk and the closer see the
+     * same snapshots of active talks, fetched once per cycle.</p>
+     *
+     * @param cycle Talks of this cycle
+     * @param starting Run the starter in this cycle?
      * @return Total talks processed
      * @throws IOException If fails
      */
-    private int process(final List<Talk> active) throws IOException {
-        this.agents.starter().execute(this.talks);
+    private int process(final Cycle cycle, final boolean starting)
+        throws IOException {
+        if (starting) {
+            this.agents.starter().execute(cycle);
+            cycle.flush();
+        }
+        final List<Talk> active = cycle.active();
         final Profiles profiles = new Profiles();
-        Collections.reverse(active);
-        int total = 0;
-        for (final Talk talk : active) {
-            ++total;
-            try {
-                final Profile profile = profiles.fetch(talk);
-                this.agents.agent(talk, profile).execute(talk);
-                if (total > Routine.MAX_TALKS) {
-                    break;
+        final Collection<Talk> due = this.schedule.due(active);
+        Logger.info(
+            this, "%d out of %d active talks are due",
+            due.size(), active.size()
+        );
+        final int total;
+        try {
+            total = this.workers.apply(
+                due,
+                talk -> {
+                    try {
+                        final Profile profile = profiles.fetch(talk);
+                        this.agents.agent(talk, profile).execute(talk);
+                    } catch (final DefaultBranch.RepoNotFoundException ex) {
+                        Logger.warn(
+                            this, "The repo not found: %[exception]s", ex
+                        );
+                        talk.active(false);
+                    }
+                    this.schedule.done(talk);
                 }
-            } catch (final DefaultBranch.RepoNotFoundException ex) {
-                Logger.warn(this, "The repo not found: %[exception]s", ex);
-                talk.active(false);
-            }
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
         }
-        this.agents.closer().execute(this.talks);
+        this.agents.closer().execute(cycle);
+        cycle.flush();
         return total;
     }
 
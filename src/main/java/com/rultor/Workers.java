@@ -0,0 +1,256 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseThreads;
+import com.rultor.spi.Talk;
+import io.sentry.Sentry;
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Proc;
+
+/**
+ * Pool of workers, which process talks in parallel, one talk per thread.
+ *
+ * <p>Each talk is processed in its own thread, so that one slow talk
+ * doesn't hold up all others. A talk that takes longer than the timeout,
+ * counting from the moment its thread picked it up, is cancelled and
+ * its thread is interrupted; the cycle doesn't wait for it any more,
+ * even if it is stuck in I/O that ignores interrupts. The whole cycle
+ * has a deadline too, counting from the moment talks were submitted:
+ * the timeout multiplied by the number of talks per thread, rounded up.
+ * Talks that are still in the queue after it, because all threads are
+ * stuck, are cancelled without being started. A talk that fails
+ * is logged and reported to Sentry, without breaking the processing of
+ * other talks.</p>
+ *
+ * @since 2.0
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class Workers implements Closeable {
+
+    /**
+     * Threads that process talks.
+     */
+    private final transient ExecutorService service;
+
+    /**
+     * Maximum time for one talk, in milliseconds.
+     */
+    private final transient long timeout;
+
+    /**
+     * How many talks are processed at the same time.
+     */
+    private final transient int threads;
+
+    /**
+     * Ctor.
+     * @param total How many talks to process at the same time
+     * @param msec Maximum time for one talk, in milliseconds
+     */
+    Workers(final int total, final long msec) {
+        this.service = Executors.newFixedThreadPool(
+            total, new VerboseThreads("talk")
+        );
+        this.timeout = msec;
+        this.threads = total;
+    }
+
+    /**
+     * Process all talks and wait until all of them are done or timed out.
+     * @param talks Talks to process
+     * @param proc What to do with each talk
+     * @return How many talks were processed successfully
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public int apply(final Collection<Talk> talks, final Proc<Talk> proc)
+        throws InterruptedException {
+        final AtomicInteger done = new AtomicInteger();
+        final long deadline = System.currentTimeMillis() + this.timeout
+            * ((talks.size() + this.threads - 1L) / this.threads);
+        final Map<Future<?>, Workers.Job> jobs =
+            new LinkedHashMap<>(talks.size());
+        for (final Talk talk : talks) {
+            final Workers.Job job = new Workers.Job(talk, deadline);
+            jobs.put(
+                this.service.submit(
+                    () -> {
+                        if (Thread.interrupted()) {
+                            Logger.warn(
+                                this, "Stale interrupt cleared before %s",
+                                talk
+                            );
+                        }
+                        job.begin();
+                        if (this.safe(talk, proc)) {
+                            done.incrementAndGet();
+                        }
+                    }
+                ),
+                job
+            );
+        }
+        try {
+            for (final Map.Entry<Future<?>, Workers.Job> ent
+                : jobs.entrySet()) {
+                this.await(ent.getKey(), ent.getValue());
+            }
+        } finally {
+            for (final Future<?> future : jobs.keySet()) {
+                future.cancel(true);
+            }
+        }
+        return done.get();
+    }
+
+    @Override
+    public void close() {
+        this.service.shutdownNow();
+    }
+
+    /**
+     * Wait for the job, until it is done or its time is over.
+     * @param future The future of the job
+     * @param job The job
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private void await(final Future<?> future, final Workers.Job job)
+        throws InterruptedException {
+        while (true) {
+            try {
+                future.get(job.left(this.timeout), TimeUnit.MILLISECONDS);
+                break;
+            } catch (final ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            } catch (final TimeoutException ex) {
+                if (job.left(this.timeout) <= 0L) {
+                    future.cancel(true);
+                    if (job.queued()) {
+                        Logger.warn(
+                            this, "Talk %s was cancelled in the queue",
+                            job.talk()
+                        );
+                    } else {
+                        Logger.warn(
+                            this, "Talk %s was cancelled after %[ms]s",
+                            job.talk(), this.timeout
+                        );
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Process one talk, in the current thread, catching all errors.
+     * @param talk The talk
+     * @param proc What to do with it
+     * @return TRUE if processed without errors
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private boolean safe(final Talk talk, final Proc<Talk> proc) {
+        final long start = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            proc.exec(talk);
+            success = true;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            Logger.error(
+                this, "Talk %s failed after %[ms]s: %[exception]s",
+                talk, System.currentTimeMillis() - start, ex
+            );
+            Sentry.captureException(ex);
+        }
+        return success;
+    }
+
+    /**
+     * Talk submitted to the pool.
+     *
+     * @since 2.0
+     */
+    private static final class Job {
+        /**
+         * The talk.
+         */
+        private final Talk tlk;
+
+        /**
+         * When the cycle is over, in milliseconds.
+         */
+        private final long deadline;
+
+        /**
+         * When its thread picked it up, or zero if still in the queue.
+         */
+        private final AtomicLong started;
+
+        /**
+         * Ctor.
+         * @param talk The talk
+         * @param end When the cycle is over
+         */
+        Job(final Talk talk, final long end) {
+            this.tlk = talk;
+            this.deadline = end;
+            this.started = new AtomicLong();
+        }
+
+        /**
+         * The talk.
+         * @return Talk
+         */
+        Talk talk() {
+            return this.tlk;
+        }
+
+        /**
+         * The thread picked it up.
+         */
+        void begin() {
+            this.started.set(System.currentTimeMillis());
+        }
+
+        /**
+         * It is still in the queue?
+         * @return TRUE if no thread picked it up yet
+         */
+        boolean queued() {
+            return this.started.get() == 0L;
+        }
+
+        /**
+         * How much time is left.
+         * @param limit Maximum time, in milliseconds
+         * @return Milliseconds, till the deadline of the cycle if not
+         *  started yet
+         */
+        long left(final long limit) {
+            final long begin = this.started.get();
+            final long left;
+            if (begin == 0L) {
+                left = this.deadline - System.currentTimeMillis();
+            } else {
+                left = begin + limit - System.currentTimeMillis();
+            }
+            return left;
+        }
+    }
+
+}
@@ -5,7 +5,6 @@
 package com.rultor.agents;
 
 import com.jcabi.aspects.Immutable;
-import com.jcabi.immutable.Array;
 import com.jcabi.xml.XML;
 import com.rultor.spi.Agent;
 import com.rultor.spi.Talk;
@@ -21,30 +20,31 @@ import org.xembly.Directive;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = "xpaths")
+@EqualsAndHashCode(of = "required")
 public abstract class AbstractAgent implements Agent {
 
     /**
-     * Encapsulated XPaths.
+     * XPath expressions, which the talk must match.
      */
-    private final transient Array<String> xpaths;
+    private final transient Required required;
 
     /**
      * Ctor.
      *
      * <p>The list of XPath expressions must all retrieve something from the
      * XML in order for this agent to be executed. Consider them all to be
-     * joined with a logical AND.</p>
+     * joined with a logical AND. They are compiled right here, once,
+     * see {@link Xpath}.</p>
      *
      * @param args XPath expressions
      */
     public AbstractAgent(final String... args) {
-        this.xpaths = new Array<>(args);
+        this.required = new Required(args);
     }
 
     @Override
     public final void execute(final Talk talk) throws IOException {
-        if (new Required(this.xpaths).isIt(talk)) {
+        if (this.required.isIt(talk)) {
             talk.modify(this.process(talk.read()));
         }
     }
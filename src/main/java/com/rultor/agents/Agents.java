@@ -83,6 +83,7 @@ import com.rultor.spi.Agent;
 import com.rultor.spi.Profile;
 import com.rultor.spi.SuperAgent;
 import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
@@ -100,7 +101,7 @@ import org.cactoos.text.UncheckedText;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = {"github", "sttc"})
+@EqualsAndHashCode(of = {"github", "sttc", "talks"})
 @SuppressWarnings("PMD.ExcessiveImports")
 public final class Agents {
 
@@ -129,14 +130,21 @@ public final class Agents {
      */
     private final transient Sttc sttc;
 
+    /**
+     * Talks.
+     */
+    private final transient Talks talks;
+
     /**
      * Ctor.
      * @param ghub Github client
      * @param stc Sttc client
+     * @param tlks Talks
      */
-    public Agents(final Github ghub, final Sttc stc) {
+    public Agents(final Github ghub, final Sttc stc, final Talks tlks) {
         this.github = ghub;
         this.sttc = stc;
+        this.talks = tlks;
     }
 
     /**
@@ -258,6 +266,7 @@ public final class Agents {
                 new DropsTalk(),
                 new Understands(
                     this.github,
+                    this.talks,
                     new QnSafe(question)
                 ),
                 new StartsRequest(profile),
@@ -6,8 +6,9 @@ package com.rultor.agents;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.immutable.Array;
-import com.jcabi.xml.XML;
+import com.rultor.spi.Snapshot;
 import com.rultor.spi.Talk;
+import com.rultor.spi.Xpath;
 import java.io.IOException;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -15,6 +16,10 @@ import lombok.ToString;
 /**
  * The agent is required for this talk?
  *
+ * <p>XPath expressions are evaluated against the {@link Snapshot} of
+ * the talk, so that the same expression is evaluated only once, even
+ * if many agents in the chain use it.</p>
+ *
  * @since 1.74
  */
 @Immutable
@@ -27,6 +32,19 @@ public final class Required {
      */
     private final transient Array<String> xpaths;
 
+    /**
+     * Ctor.
+     *
+     * <p>Expressions are compiled right here, once, see {@link Xpath},
+     * so that a broken one fails when the agent is made.</p>
+     *
+     * @param args XPath expressions
+     * @since 2.0
+     */
+    public Required(final String... args) {
+        this(Required.compiled(args));
+    }
+
     /**
      * Ctor.
      * @param args XPath expressions
@@ -42,10 +60,10 @@ public final class Required {
      * @throws IOException If fails
      */
     public boolean isIt(final Talk talk) throws IOException {
-        final XML xml = talk.read();
+        final Snapshot snapshot = Snapshot.of(talk);
         boolean good = true;
         for (final String xpath : this.xpaths) {
-            if (xml.nodes(xpath).isEmpty()) {
+            if (!snapshot.holds(xpath)) {
                 good = false;
                 break;
             }
@@ -53,4 +71,16 @@ public final class Required {
         return good;
     }
 
+    /**
+     * Compile expressions.
+     * @param args XPath expressions
+     * @return The same expressions
+     */
+    private static Array<String> compiled(final String... args) {
+        for (final String arg : args) {
+            new Xpath(arg).compiled();
+        }
+        return new Array<>(args);
+    }
+
 }
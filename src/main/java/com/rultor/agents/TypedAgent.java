@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.rultor.model.State;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Snapshot;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+
+/**
+ * Agent, which works with the typed state of the talk.
+ *
+ * <p>It is the same as {@link AbstractAgent}, but instead of the XML it
+ * gets the {@link State}, which is parsed once per snapshot of the talk
+ * and shared by all typed agents in the chain.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "required")
+public abstract class TypedAgent implements Agent {
+
+    /**
+     * XPath expressions, which the talk must match.
+     */
+    private final transient Required required;
+
+    /**
+     * Ctor.
+     * @param args XPath expressions, see {@link AbstractAgent}
+     */
+    public TypedAgent(final String... args) {
+        this.required = new Required(args);
+    }
+
+    @Override
+    public final void execute(final Talk talk) throws IOException {
+        if (this.required.isIt(talk)) {
+            talk.modify(this.process(Snapshot.of(talk).state()));
+        }
+    }
+
+    /**
+     * Process it.
+     * @param state State of the talk
+     * @return Directives
+     * @throws IOException If fails
+     */
+    protected abstract Iterable<Directive> process(State state)
+        throws IOException;
+
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
+import com.rultor.Time;
+import com.rultor.spi.Xpath;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Deadlines of daemons.
+ *
+ * <p>The deadline of an action, like "kill", is the time in
+ * {@code /talk/daemon/started} plus the minutes of the action. Agents,
+ * like {@link KillsDaemon}, ask here whether it is time to act, instead
+ * of evaluating date arithmetic in XPath 2.0 against every talk in every
+ * cycle.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Deadlines {
+
+    /**
+     * The action, like "kill".
+     */
+    private final String action;
+
+    /**
+     * Minutes from the start of the daemon to the deadline.
+     */
+    private final long minutes;
+
+    /**
+     * Ctor.
+     * @param act The action
+     * @param mins Minutes from the start of the daemon
+     */
+    public Deadlines(final String act, final long mins) {
+        this.action = act;
+        this.minutes = mins;
+    }
+
+    /**
+     * Is it time to act on the daemon of this talk?
+     * @param xml XML of the talk
+     * @return TRUE if the deadline is in the past
+     */
+    public boolean due(final XML xml) {
+        return this.deadline(xml) < System.currentTimeMillis();
+    }
+
+    /**
+     * Deadline of the daemon of the talk.
+     * @param xml XML of the talk
+     * @return Milliseconds
+     */
+    private long deadline(final XML xml) {
+        final List<String> started =
+            new Xpath("/talk/daemon/started/text()").values(xml);
+        if (started.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The daemon of %s is not started, can't %s it",
+                    new Xpath("/talk/@name").values(xml), this.action
+                )
+            );
+        }
+        return new Time(started.get(0)).msec()
+            + TimeUnit.MINUTES.toMillis(this.minutes);
+    }
+
+}
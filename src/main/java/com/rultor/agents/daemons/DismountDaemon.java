@@ -10,6 +10,7 @@ import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
 import com.rultor.agents.shells.TalkShells;
+import com.rultor.spi.Xpath;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
@@ -28,6 +29,11 @@ import org.xembly.Directives;
 @EqualsAndHashCode(callSuper = false)
 public final class DismountDaemon extends AbstractAgent {
 
+    /**
+     * Deadlines of daemons.
+     */
+    private final transient Deadlines deadlines;
+
     /**
      * Ctor.
      */
@@ -43,17 +49,26 @@ public final class DismountDaemon extends AbstractAgent {
     public DismountDaemon(final long mins) {
         super(
             "/talk/daemon[started and dir]",
-            String.format(
-                // @checkstyle LineLength (1 line)
-                "/talk[(current-dateTime() - xs:dateTime(daemon/started)) div xs:dayTimeDuration('PT1M') > %d]",
-                mins
-            ),
             "/talk/shell[host and port and login and key]"
         );
+        this.deadlines = new Deadlines("dismount", mins);
     }
 
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
+        final Directives dirs = new Directives();
+        if (this.deadlines.due(xml)) {
+            dirs.append(this.check(xml));
+        }
+        return dirs;
+    }
+
+    /**
+     * Remove the daemon, if its host is unreachable.
+     * @param xml XML of the talk
+     * @return Directives
+     */
+    private Iterable<Directive> check(final XML xml) {
         final Directives dirs = new Directives();
         try {
             Logger.info(
@@ -89,9 +104,9 @@ public final class DismountDaemon extends AbstractAgent {
     private static String host(final XML talk) {
         return String.format(
             "%s:%s for %s",
-            talk.xpath("/talk/shell/host/text()").get(0),
-            talk.xpath("/talk/shell/port/text()").get(0),
-            talk.xpath("/talk/@name").get(0)
+            new Xpath("/talk/shell/host/text()").values(talk).get(0),
+            new Xpath("/talk/shell/port/text()").values(talk).get(0),
+            new Xpath("/talk/@name").values(talk).get(0)
         );
     }
 
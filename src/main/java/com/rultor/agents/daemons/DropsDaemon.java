@@ -12,6 +12,7 @@ import com.jcabi.xml.XML;
 import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
 import com.rultor.agents.shells.TalkShells;
+import com.rultor.spi.Xpath;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
@@ -30,6 +31,11 @@ import org.xembly.Xembler;
 @EqualsAndHashCode(callSuper = false)
 public final class DropsDaemon extends AbstractAgent {
 
+    /**
+     * Deadlines of daemons.
+     */
+    private final transient Deadlines deadlines;
+
     /**
      * Ctor.
      */
@@ -45,19 +51,29 @@ public final class DropsDaemon extends AbstractAgent {
     public DropsDaemon(final long mins) {
         super(
             "/talk/daemon[started and not(code) and not(ended)]",
-            String.format(
-                // @checkstyle LineLength (1 line)
-                "/talk[(current-dateTime() - xs:dateTime(daemon/started)) div xs:dayTimeDuration('PT1M') > %d]",
-                mins
-            ),
             "/talk/shell[host and port and login and key]"
         );
+        this.deadlines = new Deadlines("drop", mins);
     }
 
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
+        final Directives dirs = new Directives();
+        if (this.deadlines.due(xml)) {
+            dirs.append(this.check(xml));
+        }
+        return dirs;
+    }
+
+    /**
+     * Drop the daemon, if its container is gone.
+     * @param xml XML of the talk
+     * @return Directives
+     * @throws IOException If fails
+     */
+    private Iterable<Directive> check(final XML xml) throws IOException {
         final Shell shell = new TalkShells(xml).get();
-        final String talk = xml.xpath("/talk/@name").get(0);
+        final String talk = new Xpath("/talk/@name").values(xml).get(0);
         final String container = new Container(talk).toString();
         final int exit = new Shell.Empty(shell).exec(
             String.format(
@@ -12,19 +12,8 @@ import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
 import com.rultor.agents.shells.TalkShells;
 import java.io.IOException;
-import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.cactoos.Text;
-import org.cactoos.iterable.Filtered;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.iterable.Skipped;
-import org.cactoos.list.ListOf;
-import org.cactoos.text.Joined;
-import org.cactoos.text.Split;
-import org.cactoos.text.StartsWith;
-import org.cactoos.text.Sub;
-import org.cactoos.text.TextOf;
 import org.xembly.Directive;
 import org.xembly.Directives;
 import org.xembly.Xembler;
@@ -44,6 +33,16 @@ public final class EndsDaemon extends AbstractAgent {
      */
     public static final String HIGHLIGHTS_PREFIX = "RULTOR: ";
 
+    /**
+     * How many last lines of stdout to keep in the tail.
+     */
+    private static final int LAST = 60;
+
+    /**
+     * Maximum length of the tail.
+     */
+    private static final int TAIL = 10_000;
+
     /**
      * Ctor.
      */
@@ -85,56 +84,19 @@ public final class EndsDaemon extends AbstractAgent {
     private Iterable<Directive> end(final Shell shell,
         final String dir) throws IOException {
         final int exit = EndsDaemon.exit(shell, dir);
-        final List<Text> lines = new ListOf<>(
-            new Split(
-                new TextOf(
-                    EndsDaemon.stdout(shell, dir)
-                ),
-                System.lineSeparator()
-            )
-        );
-        final String highlights = new Joined(
-            "\n",
-            new Mapped<>(
-                s -> new Sub(
-                    s,
-                    EndsDaemon.HIGHLIGHTS_PREFIX.length()
-                ).asString(),
-                new Filtered<>(
-                    input -> new StartsWith(
-                        input,
-                        new TextOf(EndsDaemon.HIGHLIGHTS_PREFIX)
-                    ).value(),
-                    lines
-                )
-            )
-        ).toString();
+        final Lines lines = EndsDaemon.stdout(shell, dir);
+        final String tail = lines.tail();
         Logger.info(this, "daemon finished at %s, exit: %d", dir, exit);
         return new Directives()
             .xpath("/talk/daemon")
             .strict(1)
             .add("ended").set(new Time().iso()).up()
             .add("code").set(Integer.toString(exit)).up()
-            .add("highlights").set(Xembler.escape(highlights)).up()
+            .add("highlights").set(Xembler.escape(lines.highlights())).up()
             .add("tail")
             .set(
                 Xembler.escape(
-                    new Sub(
-                        new Joined(
-                            System.lineSeparator(),
-                            new Skipped<>(
-                                Math.max(lines.size() - 60, 0),
-                                new ListOf<>(
-                                    new Mapped<>(
-                                        Text::asString,
-                                        lines
-                                    )
-                                )
-                            )
-                        ),
-                        0,
-                        10_000
-                    ).toString()
+                    tail.substring(0, Math.min(tail.length(), EndsDaemon.TAIL))
                 )
             );
     }
@@ -163,29 +125,35 @@ public final class EndsDaemon extends AbstractAgent {
     }
 
     /**
-     * Get stdout.
+     * Read stdout, line by line.
      * @param shell Shell
      * @param dir The dir
-     * @return Stdout
+     * @return Lines
      * @throws IOException If fails
      */
-    private static CharSequence stdout(final Shell shell, final String dir)
+    private static Lines stdout(final Shell shell, final String dir)
         throws IOException {
         final int max = 4_000_000;
-        return new ShellCommand(
-            shell,
-            dir,
-            String.join(
-                ";",
-                "size=$(stat -c%s stdout)",
-                String.format("if [ $size -gt %d ]", max),
-                "then echo \"Output is too big ($size bytes)\"",
-                String.format("echo \"You see only the last %d bytes\"", max),
-                String.format("tail -c %d stdout", max),
-                "else cat stdout",
-                "fi"
-            )
-        ).exec();
+        final Lines lines = new Lines(EndsDaemon.LAST, EndsDaemon.TAIL);
+        try (lines) {
+            new ShellCommand(
+                shell,
+                dir,
+                String.join(
+                    ";",
+                    "size=$(stat -c%s stdout)",
+                    String.format("if [ $size -gt %d ]", max),
+                    "then echo \"Output is too big ($size bytes)\"",
+                    String.format(
+                        "echo \"You see only the last %d bytes\"", max
+                    ),
+                    String.format("tail -c %d stdout", max),
+                    "else cat stdout",
+                    "fi"
+                )
+            ).exec(lines);
+        }
+        return lines;
     }
 
 }
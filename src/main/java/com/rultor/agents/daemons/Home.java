@@ -6,6 +6,7 @@ package com.rultor.agents.daemons;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.xml.XML;
+import com.rultor.spi.Xpath;
 import java.net.URI;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -17,13 +18,13 @@ import lombok.ToString;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false, of = { "xml", "hash" })
+@EqualsAndHashCode(callSuper = false, of = { "number", "hash" })
 public final class Home {
 
     /**
-     * Talk.
+     * Number of the talk.
      */
-    private final transient XML xml;
+    private final transient long number;
 
     /**
      * Hash.
@@ -44,7 +45,20 @@ public final class Home {
      * @param hsh Hash
      */
     public Home(final XML talk, final String hsh) {
-        this.xml = talk;
+        this(
+            Long.parseLong(new Xpath("/talk/@number").values(talk).get(0)),
+            hsh
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param num Number of the talk
+     * @param hsh Hash
+     * @since 2.0
+     */
+    public Home(final long num, final String hsh) {
+        this.number = num;
         this.hash = hsh;
     }
 
@@ -55,9 +69,7 @@ public final class Home {
     public URI uri() {
         return URI.create(
             String.format(
-                "https://www.rultor.com/t/%d-%s",
-                Long.parseLong(this.xml.xpath("/talk/@number").get(0)),
-                this.hash
+                "https://www.rultor.com/t/%d-%s", this.number, this.hash
             )
         );
     }
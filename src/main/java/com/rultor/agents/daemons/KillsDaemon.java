@@ -7,7 +7,10 @@ package com.rultor.agents.daemons;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
-import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Required;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Xpath;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
@@ -18,12 +21,26 @@ import org.xembly.Directives;
 /**
  * Kills daemon if too old.
  *
+ * <p>The deadline is checked in {@link #execute(Talk)}, while
+ * {@link #process(XML)} kills the daemon right away, since it is also
+ * used when a user asks to kill it manually.</p>
+ *
  * @since 1.0
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false)
-public final class KillsDaemon extends AbstractAgent {
+@EqualsAndHashCode
+public final class KillsDaemon implements Agent {
+
+    /**
+     * XPath expressions, which the talk must match.
+     */
+    private final transient Required required;
+
+    /**
+     * Deadlines of daemons.
+     */
+    private final transient Deadlines deadlines;
 
     /**
      * Ctor.
@@ -37,28 +54,41 @@ public final class KillsDaemon extends AbstractAgent {
      * @param mins Maximum minutes per build
      */
     public KillsDaemon(final long mins) {
-        super(
+        this.required = new Required(
             "/talk/daemon[started and not(code) and not(ended)]",
-            "/talk/daemon/dir",
-            String.format(
-                // @checkstyle LineLength (1 line)
-                "/talk[(current-dateTime() - xs:dateTime(daemon/started)) div xs:dayTimeDuration('PT1M') > %d]",
-                mins
-        )
+            "/talk/daemon/dir"
         );
+        this.deadlines = new Deadlines("kill", mins);
     }
 
     @Override
+    public void execute(final Talk talk) throws IOException {
+        if (this.required.isIt(talk)) {
+            final XML xml = talk.read();
+            if (this.deadlines.due(xml)) {
+                talk.modify(this.process(xml));
+            }
+        }
+    }
+
+    /**
+     * Kill the daemon of the talk, no matter how old it is.
+     * @param xml XML of the talk
+     * @return Directives
+     * @throws IOException If fails
+     */
     public Iterable<Directive> process(final XML xml) throws IOException {
-        final String name = xml.xpath("/talk/@name").get(0);
+        final String name = new Xpath("/talk/@name").values(xml).get(0);
         try {
             Logger.info(
-                this, "The daemon of %s has been killed due to delay, code=%d",
+                this,
+                "The daemon of %s has been killed due to delay, code=%d",
                 name, new Script("kill.sh").exec(xml)
             );
         } catch (final IllegalArgumentException ex) {
             Logger.warn(
-                this, "We failed to kill the daemon of %s due to delay: %s",
+                this,
+                "We failed to kill the daemon of %s due to delay: %s",
                 name, ex.getMessage()
             );
         }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import lombok.ToString;
+
+/**
+ * Lines of the stdout of a daemon, consumed as they stream in.
+ *
+ * <p>The output is read once, line by line, and is never kept in
+ * memory entirely: only the last few lines and the highlights, which are
+ * the lines that start with {@link EndsDaemon#HIGHLIGHTS_PREFIX}.
+ * Lines longer than the maximum are cut.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = {"size", "max"})
+final class Lines extends OutputStream {
+
+    /**
+     * How many last lines to keep.
+     */
+    private final int size;
+
+    /**
+     * Maximum length of a line, in bytes.
+     */
+    private final int max;
+
+    /**
+     * The last lines.
+     */
+    private final Deque<String> last;
+
+    /**
+     * Highlights, without the prefix.
+     */
+    private final Collection<String> marked;
+
+    /**
+     * The line being read now.
+     */
+    private final ByteArrayOutputStream line;
+
+    /**
+     * Ctor.
+     * @param lines How many last lines to keep
+     * @param length Maximum length of a line, in bytes
+     */
+    Lines(final int lines, final int length) {
+        super();
+        this.size = lines;
+        this.max = length;
+        this.last = new ArrayDeque<>(lines + 1);
+        this.marked = new ArrayList<>(0);
+        this.line = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public void write(final int chr) {
+        if (chr == '\n') {
+            this.next();
+        } else if (this.line.size() < this.max) {
+            this.line.write(chr);
+        }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int off, final int len) {
+        int start = off;
+        for (int pos = off; pos < off + len; ++pos) {
+            if (bytes[pos] == '\n') {
+                this.append(bytes, start, pos - start);
+                this.next();
+                start = pos + 1;
+            }
+        }
+        this.append(bytes, start, off + len - start);
+    }
+
+    @Override
+    public void close() {
+        if (this.line.size() > 0) {
+            this.next();
+        }
+    }
+
+    /**
+     * The last lines, joined.
+     * @return Text
+     */
+    public String tail() {
+        return String.join(System.lineSeparator(), this.last);
+    }
+
+    /**
+     * Highlights, joined.
+     * @return Text
+     */
+    public String highlights() {
+        return String.join("\n", this.marked);
+    }
+
+    /**
+     * Add bytes to the current line, as long as it is not too long.
+     * @param bytes Bytes
+     * @param off Offset
+     * @param len Length
+     */
+    private void append(final byte[] bytes, final int off, final int len) {
+        final int room = Math.min(len, this.max - this.line.size());
+        if (room > 0) {
+            this.line.write(bytes, off, room);
+        }
+    }
+
+    /**
+     * The current line is over.
+     */
+    private void next() {
+        String text = new String(
+            this.line.toByteArray(), StandardCharsets.UTF_8
+        );
+        this.line.reset();
+        if (!text.isEmpty() && text.charAt(text.length() - 1) == '\r') {
+            text = text.substring(0, text.length() - 1);
+        }
+        if (text.startsWith(EndsDaemon.HIGHLIGHTS_PREFIX)) {
+            this.marked.add(
+                text.substring(EndsDaemon.HIGHLIGHTS_PREFIX.length())
+            );
+        }
+        this.last.addLast(text);
+        if (this.last.size() > this.size) {
+            this.last.removeFirst();
+        }
+    }
+
+}
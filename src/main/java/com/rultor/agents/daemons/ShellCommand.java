@@ -5,9 +5,13 @@
 package com.rultor.agents.daemons;
 
 import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
 import com.jcabi.ssh.Shell;
 import com.jcabi.ssh.Ssh;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.logging.Level;
+import org.apache.commons.io.input.NullInputStream;
 
 /**
  * Command to run in a given shell and working directory.
@@ -55,12 +59,32 @@ final class ShellCommand {
      * @throws IOException If fails
      */
     public String exec() throws IOException {
-        return new Shell.Plain(new Shell.Safe(this.shell)).exec(
-            String.join(
-                ShellCommand.SHELL_JOINER,
-                String.format("cd %s", Ssh.escape(this.directory)),
-                this.command
-            )
+        return new Shell.Plain(new Shell.Safe(this.shell)).exec(this.line());
+    }
+
+    /**
+     * Executes the command, streaming its stdout.
+     * @param stdout Where to write the stdout
+     * @throws IOException If fails
+     */
+    public void exec(final OutputStream stdout) throws IOException {
+        new Shell.Safe(this.shell).exec(
+            this.line(),
+            new NullInputStream(0L),
+            stdout,
+            Logger.stream(Level.WARNING, this)
+        );
+    }
+
+    /**
+     * The command, in the directory.
+     * @return Command line
+     */
+    private String line() {
+        return String.join(
+            ShellCommand.SHELL_JOINER,
+            String.format("cd %s", Ssh.escape(this.directory)),
+            this.command
         );
     }
 
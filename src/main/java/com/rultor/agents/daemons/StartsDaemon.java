@@ -19,6 +19,7 @@ import com.rultor.agents.shells.TalkShells;
 import com.rultor.profiles.ProfileDeprecations;
 import com.rultor.spi.Agent;
 import com.rultor.spi.Profile;
+import com.rultor.spi.Snapshot;
 import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.io.InputStream;
@@ -73,13 +74,16 @@ public final class StartsDaemon implements Agent {
     @Override
     public void execute(final Talk talk) throws IOException {
         if (new Required(StartsDaemon.PATHS).isIt(talk)) {
-            talk.modify(
+            final Snapshot snapshot = Snapshot.of(talk);
+            snapshot.modify(
                 new Directives()
                     .xpath("/talk/daemon[not(started)]")
                     .strict(1)
                     .add("started").set(new Time().iso())
             );
-            talk.modify(this.process(talk.read()));
+            snapshot.flush();
+            snapshot.modify(this.process(snapshot.read()));
+            snapshot.flush();
         }
     }
 
@@ -6,17 +6,19 @@ package com.rultor.agents.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Comment;
-import com.jcabi.github.Comment.Smart;
+import com.jcabi.github.Github;
 import com.jcabi.github.Issue;
 import com.jcabi.github.Smarts;
 import com.jcabi.github.safe.SfComments;
 import com.jcabi.log.Logger;
 import java.io.IOException;
+import java.text.ParseException;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.TreeSet;
+import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.iterable.Mapped;
@@ -71,20 +73,10 @@ public final class Answer {
     public void post(final boolean success, final String msg,
         final Object... args) throws IOException {
         final Issue issue = this.comment.issue();
-        final List<Smart> comments = new ListOf<>(
-            new Reversed<>(
-                new Smarts<>(
-                    issue.comments().iterate(new Date(0L))
-                )
-            )
-        );
         final String self = issue.repo().github().users().self().login();
-        int mine = 0;
-        for (final Comment.Smart cmt : comments) {
-            if (!cmt.author().login().equals(self)) {
-                break;
-            }
-            ++mine;
+        int mine = Answer.mine(issue, self, this.since());
+        if (mine < 0) {
+            mine = Answer.mine(issue, self, new Date(0L));
         }
         if (mine < Answer.MAX) {
             new SfComments(
@@ -98,6 +90,58 @@ public final class Answer {
         }
     }
 
+    /**
+     * When the original comment was created, if known.
+     *
+     * <p>My comments that may stop me from posting are the ones after
+     * it, so only they are fetched, not the entire history of the
+     * issue. {@link FirstComment} has no time, all comments are
+     * fetched for it. The JSON of the comment is fetched only once.</p>
+     *
+     * @return The time or zero date
+     * @throws IOException If fails
+     */
+    private Date since() throws IOException {
+        final JsonObject json = this.comment.json();
+        Date since = new Date(0L);
+        if (json.containsKey("created_at")) {
+            try {
+                since = new Github.Time(json.getString("created_at")).date();
+            } catch (final ParseException ex) {
+                throw new IOException(ex);
+            }
+        }
+        return since;
+    }
+
+    /**
+     * How many of the last comments in the issue are mine.
+     * @param issue The issue
+     * @param self My login
+     * @param since Fetch comments since this time
+     * @return How many, or -1 if all comments since the time are mine
+     *  and older ones have to be checked too
+     * @throws IOException If fails
+     */
+    private static int mine(final Issue issue, final String self,
+        final Date since) throws IOException {
+        final List<Comment.Smart> comments = new ListOf<>(
+            new Reversed<>(new Smarts<>(issue.comments().iterate(since)))
+        );
+        int mine = 0;
+        for (final Comment.Smart cmt : comments) {
+            if (!cmt.author().login().equals(self)) {
+                break;
+            }
+            ++mine;
+        }
+        if (mine < Answer.MAX && mine == comments.size()
+            && since.getTime() > 0L) {
+            mine = -1;
+        }
+        return mine;
+    }
+
     /**
      * Make a message to post.
      * @param success Is it a report about success?
@@ -0,0 +1,231 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Wire that caches GET responses on disk and revalidates them
+ * with {@code If-None-Match} and {@code If-Modified-Since}.
+ *
+ * <p>GitHub doesn't count {@code 304 Not Modified} against the rate
+ * limit, so repeated reads of the same resources, like {@code .rultor.yml},
+ * collaborators or comments, are almost free when they didn't change.
+ * Responses with {@code ETag} or {@code Last-Modified} are kept in the
+ * directory, at most the given number of them, the least recently used
+ * are deleted first. The cache in the directory is shared by all
+ * wires in this JVM, see {@link #stats()}. The default directory is
+ * {@code rultor-github} in the temporary directory, unless the system
+ * property {@code rultor.github.cache} says otherwise; it is made
+ * accessible only to its owner.</p>
+ *
+ * <p>Use it like this:</p>
+ *
+ * <pre> new RtGithub(
+ *   new RtGithub(token).entry()
+ *     .through(RetryCarefulWire.class, 100)
+ *     .through(CachingWire.class)
+ * );</pre>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString(of = {"dir", "max"})
+@EqualsAndHashCode(of = {"origin", "dir", "max"})
+public final class CachingWire implements Wire {
+
+    /**
+     * Caches, opened by this JVM, by their directories.
+     */
+    private static final Map<String, DiskCache> CACHES =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * The directory.
+     */
+    private final transient String dir;
+
+    /**
+     * Maximum number of responses to keep.
+     */
+    private final transient int max;
+
+    /**
+     * Ctor, with the cache of ten thousand responses in the default
+     * directory.
+     * @param wire Original wire
+     */
+    public CachingWire(final Wire wire) {
+        this(
+            wire,
+            System.getProperty(
+                "rultor.github.cache",
+                new File(System.getProperty("java.io.tmpdir"), "rultor-github")
+                    .getPath()
+            ),
+            10_000
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param wire Original wire
+     * @param path The directory
+     * @param size Maximum number of responses to keep
+     */
+    public CachingWire(final Wire wire, final String path, final int size) {
+        this.origin = wire;
+        this.dir = new File(path).getAbsolutePath();
+        this.max = size;
+    }
+
+    // @checkstyle ParameterNumberCheck (3 lines)
+    @Override
+    public Response send(final Request req, final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        final Response response;
+        if (Request.GET.equals(method)) {
+            response = this.cached(
+                req, home, headers, content, connect, read
+            );
+        } else {
+            response = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Counters of all caches: "hits" are responses served from the cache
+     * after 304, "modified" are cached responses replaced by new ones, and
+     * "misses" are requests that found nothing in the cache.
+     * @return Counters, by names
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Map<String, Long> stats() {
+        final Map<String, Long> map = new LinkedHashMap<>(0);
+        map.put("hits", 0L);
+        map.put("modified", 0L);
+        map.put("misses", 0L);
+        for (final DiskCache cache : CachingWire.CACHES.values()) {
+            map.merge("hits", cache.hits(), Long::sum);
+            map.merge("modified", cache.changes(), Long::sum);
+            map.merge("misses", cache.misses(), Long::sum);
+        }
+        return map;
+    }
+
+    /**
+     * Send GET, revalidating the cached response, if any.
+     * @param req Request
+     * @param home URI to fetch
+     * @param headers Headers
+     * @param content HTTP body
+     * @param connect The connect timeout
+     * @param read The read timeout
+     * @return Response
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Response cached(final Request req, final String home,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        final DiskCache cache = CachingWire.CACHES.computeIfAbsent(
+            this.dir,
+            path -> {
+                try {
+                    return new DiskCache(new File(path), this.max);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        );
+        final String key = CachingWire.key(home, headers);
+        final DiskCache.Entry before = cache.get(key);
+        final Collection<Map.Entry<String, String>> hdrs =
+            new ArrayList<>(headers);
+        if (before == null) {
+            cache.missed();
+        } else {
+            hdrs.addAll(before.conditions());
+        }
+        final Response response = this.origin.send(
+            req, home, Request.GET, hdrs, content, connect, read
+        );
+        final Response result;
+        if (before != null
+            && response.status() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            result = before.response(req);
+            cache.revalidated();
+        } else {
+            result = response;
+            if (before != null) {
+                cache.modified();
+            }
+            if (response.status() == HttpURLConnection.HTTP_OK) {
+                cache.put(key, response);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Key of the request in the cache.
+     *
+     * <p>Headers that may change the response, like {@code Accept} and
+     * {@code Authorization}, are part of the key.</p>
+     *
+     * @param home URI
+     * @param headers Headers
+     * @return Key
+     */
+    private static String key(final String home,
+        final Collection<Map.Entry<String, String>> headers) {
+        final List<String> parts = new ArrayList<>(headers.size() + 1);
+        parts.add(home);
+        for (final Map.Entry<String, String> header : headers) {
+            final String name = header.getKey();
+            if ("accept".equalsIgnoreCase(name)
+                || "authorization".equalsIgnoreCase(name)) {
+                parts.add(
+                    String.format(
+                        "%s: %s",
+                        name.toLowerCase(Locale.ENGLISH), header.getValue()
+                    )
+                );
+            }
+        }
+        return DigestUtils.sha256Hex(String.join("\n", parts));
+    }
+
+}
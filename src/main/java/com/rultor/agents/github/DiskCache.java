@@ -0,0 +1,408 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.response.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * Responses of {@link CachingWire}, in files in a directory.
+ *
+ * <p>Each response is a file, named by its key: the status and the
+ * reason in the first line, the headers in the next lines, an empty
+ * line, and the body. The least recently used files are deleted, when
+ * there are too many of them. The order of use is kept in memory and
+ * is restored from the times of modification of the files, when the
+ * directory is opened again.</p>
+ *
+ * <p>Responses may carry private data of the token, so the directory is
+ * made accessible only to its owner, where the file system supports
+ * POSIX permissions, and the files are created by
+ * {@link Files#createTempFile(Path, String, String)}, which makes them
+ * accessible only to their owner too.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = {"dir", "max"})
+final class DiskCache {
+
+    /**
+     * The directory.
+     */
+    private final transient Path dir;
+
+    /**
+     * Maximum number of files.
+     */
+    private final transient int max;
+
+    /**
+     * Keys, the least recently used first.
+     */
+    private final transient Map<String, Boolean> keys;
+
+    /**
+     * Requests answered with 304 and served from the cache.
+     */
+    private final transient AtomicLong hit;
+
+    /**
+     * Requests that found a response in the cache, which was modified.
+     */
+    private final transient AtomicLong stale;
+
+    /**
+     * Requests that found nothing in the cache.
+     */
+    private final transient AtomicLong miss;
+
+    /**
+     * Ctor.
+     * @param path The directory, which may be absent
+     * @param size Maximum number of files
+     * @throws IOException If fails
+     */
+    DiskCache(final File path, final int size) throws IOException {
+        this.dir = path.toPath();
+        this.max = size;
+        this.keys = new LinkedHashMap<>(0, 0.75f, true);
+        this.hit = new AtomicLong();
+        this.stale = new AtomicLong();
+        this.miss = new AtomicLong();
+        DiskCache.mkdirs(this.dir);
+        final File[] files = path.listFiles();
+        if (files != null) {
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            for (final File file : files) {
+                if (file.getName().endsWith(".tmp")) {
+                    Files.deleteIfExists(file.toPath());
+                } else {
+                    this.keys.put(file.getName(), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the response.
+     * @param key The key
+     * @return Response or NULL if it is absent
+     * @throws IOException If fails
+     */
+    public DiskCache.Entry get(final String key) throws IOException {
+        DiskCache.Entry entry = null;
+        synchronized (this.keys) {
+            if (this.keys.containsKey(key)) {
+                final Path file = this.dir.resolve(key);
+                if (Files.exists(file)) {
+                    entry = DiskCache.Entry.parse(Files.readAllBytes(file));
+                } else {
+                    this.keys.remove(key);
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Save the response, if it can be revalidated later.
+     * @param key The key
+     * @param response The response
+     * @throws IOException If fails
+     */
+    public void put(final String key, final Response response)
+        throws IOException {
+        final DiskCache.Entry entry = new DiskCache.Entry(response);
+        if (!entry.conditions().isEmpty()) {
+            final Path temp = Files.createTempFile(this.dir, "put-", ".tmp");
+            try {
+                Files.write(temp, entry.bytes());
+            } catch (final IOException ex) {
+                Files.deleteIfExists(temp);
+                throw ex;
+            }
+            synchronized (this.keys) {
+                Files.move(
+                    temp, this.dir.resolve(key),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+                this.keys.put(key, true);
+                final Iterator<String> eldest = this.keys.keySet().iterator();
+                while (this.keys.size() > this.max) {
+                    Files.deleteIfExists(this.dir.resolve(eldest.next()));
+                    eldest.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * The cached response was served, since it was not modified.
+     */
+    public void revalidated() {
+        this.hit.incrementAndGet();
+    }
+
+    /**
+     * The cached response was not served, since it was modified.
+     */
+    public void modified() {
+        this.stale.incrementAndGet();
+    }
+
+    /**
+     * Nothing was found in the cache.
+     */
+    public void missed() {
+        this.miss.incrementAndGet();
+    }
+
+    /**
+     * How many requests were answered from the cache, after 304.
+     * @return Counter
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * How many requests found a response in the cache, which was
+     * modified since then.
+     * @return Counter
+     */
+    public long changes() {
+        return this.stale.get();
+    }
+
+    /**
+     * How many requests found nothing in the cache.
+     * @return Counter
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+
+    /**
+     * Make the directory, if it is absent, accessible only to its owner.
+     * @param path The directory
+     * @throws IOException If fails
+     */
+    private static void mkdirs(final Path path) throws IOException {
+        if (path.getFileSystem().supportedFileAttributeViews()
+            .contains("posix")) {
+            final Set<PosixFilePermission> perms =
+                PosixFilePermissions.fromString("rwx------");
+            if (Files.exists(path)) {
+                Files.setPosixFilePermissions(path, perms);
+            } else {
+                Files.createDirectories(
+                    path, PosixFilePermissions.asFileAttribute(perms)
+                );
+            }
+        } else {
+            Files.createDirectories(path);
+        }
+    }
+
+    /**
+     * One response.
+     *
+     * @since 2.0
+     */
+    static final class Entry {
+        /**
+         * Status.
+         */
+        private final int status;
+
+        /**
+         * Reason.
+         */
+        private final String reason;
+
+        /**
+         * Headers.
+         */
+        private final List<Map.Entry<String, String>> headers;
+
+        /**
+         * Body.
+         */
+        private final byte[] body;
+
+        /**
+         * Ctor.
+         * @param response The response
+         */
+        Entry(final Response response) {
+            this(
+                response.status(), response.reason(),
+                DiskCache.Entry.flat(response.headers()), response.binary()
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param code Status
+         * @param text Reason
+         * @param hdrs Headers
+         * @param bytes Body
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Entry(final int code, final String text,
+            final List<Map.Entry<String, String>> hdrs, final byte[] bytes) {
+            this.status = code;
+            this.reason = text;
+            this.headers = hdrs;
+            this.body = bytes.clone();
+        }
+
+        /**
+         * Headers to make the request conditional.
+         * @return Headers, empty if it can't be revalidated
+         */
+        public Collection<Map.Entry<String, String>> conditions() {
+            final Collection<Map.Entry<String, String>> list =
+                new ArrayList<>(1);
+            for (final Map.Entry<String, String> header : this.headers) {
+                if ("etag".equalsIgnoreCase(header.getKey())) {
+                    list.add(
+                        new AbstractMap.SimpleEntry<>(
+                            "If-None-Match", header.getValue()
+                        )
+                    );
+                }
+            }
+            if (list.isEmpty()) {
+                for (final Map.Entry<String, String> header : this.headers) {
+                    if ("last-modified".equalsIgnoreCase(header.getKey())) {
+                        list.add(
+                            new AbstractMap.SimpleEntry<>(
+                                "If-Modified-Since", header.getValue()
+                            )
+                        );
+                    }
+                }
+            }
+            return list;
+        }
+
+        /**
+         * The response, for the request.
+         * @param req The request
+         * @return Response
+         */
+        public Response response(final Request req) {
+            return new DefaultResponse(
+                req, this.status, this.reason,
+                new Array<>(this.headers), this.body
+            );
+        }
+
+        /**
+         * Bytes to save in a file.
+         * @return Bytes
+         * @throws IOException If fails
+         */
+        public byte[] bytes() throws IOException {
+            final StringBuilder head = new StringBuilder(0)
+                .append(this.status).append(' ')
+                .append(this.reason).append('\n');
+            for (final Map.Entry<String, String> header : this.headers) {
+                head.append(header.getKey()).append(": ")
+                    .append(header.getValue()).append('\n');
+            }
+            head.append('\n');
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(this.body);
+            return out.toByteArray();
+        }
+
+        /**
+         * Parse the bytes of a file.
+         * @param bytes Bytes
+         * @return Entry
+         */
+        static DiskCache.Entry parse(final byte[] bytes) {
+            int end = 0;
+            while (end < bytes.length - 1
+                && !(bytes[end] == '\n' && bytes[end + 1] == '\n')) {
+                ++end;
+            }
+            final String[] lines = new String(
+                bytes, 0, end, StandardCharsets.UTF_8
+            ).split("\n");
+            final List<Map.Entry<String, String>> hdrs =
+                new ArrayList<>(lines.length);
+            for (int idx = 1; idx < lines.length; ++idx) {
+                final int colon = lines[idx].indexOf(':');
+                hdrs.add(
+                    new AbstractMap.SimpleEntry<>(
+                        lines[idx].substring(0, colon),
+                        lines[idx].substring(colon + 2)
+                    )
+                );
+            }
+            final int space = lines[0].indexOf(' ');
+            return new DiskCache.Entry(
+                Integer.parseInt(lines[0].substring(0, space)),
+                lines[0].substring(space + 1), hdrs,
+                Arrays.copyOfRange(
+                    bytes, Math.min(end + 2, bytes.length), bytes.length
+                )
+            );
+        }
+
+        /**
+         * Flatten the headers.
+         * @param map Headers, by names
+         * @return Headers
+         */
+        private static List<Map.Entry<String, String>> flat(
+            final Map<String, List<String>> map) {
+            final List<Map.Entry<String, String>> list =
+                new ArrayList<>(map.size());
+            for (final Map.Entry<String, List<String>> ent : map.entrySet()) {
+                if (ent.getKey() == null) {
+                    continue;
+                }
+                for (final String value : ent.getValue()) {
+                    list.add(
+                        new AbstractMap.SimpleEntry<>(ent.getKey(), value)
+                    );
+                }
+            }
+            return list;
+        }
+    }
+
+}
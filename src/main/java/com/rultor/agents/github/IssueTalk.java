@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Coordinates;
+import com.jcabi.log.Logger;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directives;
+
+/**
+ * Talk of a GitHub issue, where I'm mentioned.
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class IssueTalk {
+
+    /**
+     * Coordinates of the repository.
+     */
+    private final transient String repo;
+
+    /**
+     * Number of the issue.
+     */
+    private final transient int issue;
+
+    /**
+     * URL of the issue, in HTML.
+     */
+    private final transient String href;
+
+    /**
+     * Ctor.
+     * @param coords Coordinates of the repository
+     * @param number Number of the issue
+     * @param url URL of the issue, in HTML
+     */
+    public IssueTalk(final Coordinates coords, final int number,
+        final String url) {
+        this.repo = coords.toString();
+        this.issue = number;
+        this.href = url;
+    }
+
+    /**
+     * Create the talk, if it is absent, and activate it.
+     * @param talks Talks
+     * @return Name of the talk activated
+     * @throws IOException If fails
+     */
+    public String activate(final Talks talks) throws IOException {
+        final String name = String.format("%s#%d", this.repo, this.issue);
+        if (!talks.exists(name)) {
+            talks.create(this.repo, name);
+        }
+        final Talk talk = talks.get(name);
+        talk.modify(
+            new Directives()
+                .xpath("/talk").attr("later", Boolean.toString(true))
+                .xpath("/talk[not(wire)]")
+                .add("wire").add("href").set(this.href)
+                .up()
+                .add("github-repo").set(this.repo)
+                .up()
+                .add("github-issue").set(Integer.toString(this.issue))
+        );
+        talk.active(true);
+        Logger.info(
+            this, "talk %s#%d activated as %s",
+            this.repo, this.issue, name
+        );
+        return talk.name();
+    }
+
+}
@@ -10,17 +10,16 @@ import com.jcabi.github.Github;
 import com.jcabi.github.Issue;
 import com.jcabi.github.safe.SfComment;
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XML;
-import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.TypedAgent;
 import com.rultor.agents.daemons.Home;
+import com.rultor.model.Request;
+import com.rultor.model.State;
 import java.io.IOException;
 import java.net.URI;
-import java.util.List;
 import java.util.ResourceBundle;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Posts merge results to Github pull request.
@@ -30,7 +29,7 @@ import org.xembly.Directives;
 @Immutable
 @ToString
 @EqualsAndHashCode(callSuper = false, of = "github")
-public final class Reports extends AbstractAgent {
+public final class Reports extends TypedAgent {
 
     /**
      * Message bundle.
@@ -56,21 +55,21 @@ public final class Reports extends AbstractAgent {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public Iterable<Directive> process(final XML xml) throws IOException {
-        final XML req = xml.nodes("/talk/request").get(0);
-        final Issue.Smart issue = new TalkIssues(this.github, xml).get();
-        final boolean success = Boolean.parseBoolean(
-            req.xpath("success/text()").get(0)
-        );
-        final URI home = new Home(xml).uri();
+    public Iterable<Directive> process(final State state)
+        throws IOException {
+        final Request req = state.request().get();
+        final Issue.Smart issue = new TalkIssues(
+            this.github, state.wire().get()
+        ).get();
+        final boolean success = req.success().get();
+        final URI home = new Home(state.number(), req.id()).uri();
         final String pattern;
         if (success) {
             pattern = "Reports.success";
         } else {
             pattern = "Reports.failure";
         }
-        final long number = Long.parseLong(req.xpath("@id").get(0));
+        final long number = Long.parseLong(req.id());
         final Comment.Smart comment = new Comment.Smart(
             new SfComment(
                 Reports.origin(issue, number)
@@ -85,7 +84,7 @@ public final class Reports extends AbstractAgent {
             Logger.format(
                 Reports.PHRASES.getString(pattern),
                 home.toASCIIString(),
-                Long.parseLong(req.xpath("msec/text()").get(0))
+                req.msec().get()
             )
         ).append(Reports.highlights(req));
         if (!success) {
@@ -93,9 +92,7 @@ public final class Reports extends AbstractAgent {
         }
         new Answer(comment).post(success, message.toString());
         Logger.info(this, "issue #%d reported: %B", issue.number(), success);
-        return new Directives()
-            .xpath("/talk/request[success]")
-            .strict(1).remove();
+        return req.remove();
     }
 
     /**
@@ -103,15 +100,10 @@ public final class Reports extends AbstractAgent {
      * @param req Request
      * @return Highlights
      */
-    private static String highlights(final XML req) {
-        final List<String> highlights = req.xpath("highlights/text()");
-        final String text;
-        if (highlights.isEmpty()) {
-            text = "";
-        } else {
-            text = String.format("\n\n%s", highlights.get(0));
-        }
-        return text;
+    private static String highlights(final Request req) {
+        return req.highlights()
+            .map(text -> String.format("\n\n%s", text))
+            .orElse("");
     }
 
     /**
@@ -119,18 +111,14 @@ public final class Reports extends AbstractAgent {
      * @param req Request
      * @return Tail
      */
-    private static String tail(final XML req) {
-        final List<String> tail = req.xpath("tail/text()");
-        final String text;
-        if (tail.isEmpty()) {
-            text = "";
-        } else {
-            text = String.format(
-                "\n\n```\n%s\n```",
-                tail.get(0).replaceAll("```", "'''")
-            );
-        }
-        return text;
+    private static String tail(final Request req) {
+        return req.tail()
+            .map(
+                text -> String.format(
+                    "\n\n```\n%s\n```", text.replaceAll("```", "'''")
+                )
+            )
+            .orElse("");
     }
 
     /**
@@ -14,7 +14,6 @@ import com.jcabi.http.response.RestResponse;
 import com.jcabi.log.Logger;
 import com.rultor.Time;
 import com.rultor.spi.SuperAgent;
-import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.net.HttpURLConnection;
@@ -23,7 +22,6 @@ import java.util.LinkedList;
 import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.xembly.Directives;
 
 /**
  * Starts talk when I'm mentioned in a Github issue.
@@ -116,29 +114,10 @@ public final class StartsTalks implements SuperAgent {
         final Issue issue = this.github.repos().get(coords).issues().get(
             new IssueUrl(event.getJsonObject("subject").getString("url")).uid()
         );
-        final String name = String.format("%s#%d", coords, issue.number());
-        if (!talks.exists(name)) {
-            talks.create(coords.toString(), name);
-        }
-        final Talk talk = talks.get(name);
-        talk.modify(
-            new Directives()
-                .xpath("/talk").attr("later", Boolean.toString(true))
-                .xpath("/talk[not(wire)]")
-                .add("wire").add("href")
-                .set(new Issue.Smart(issue).htmlUrl().toString())
-                .up()
-                .add("github-repo").set(coords.toString())
-                .up()
-                .add("github-issue")
-                .set(Integer.toString(issue.number()))
-        );
-        talk.active(true);
-        Logger.info(
-            this, "talk %s#%d activated as %s",
-            coords, issue.number(), name
-        );
-        return talk.name();
+        return new IssueTalk(
+            coords, issue.number(),
+            new Issue.Smart(issue).htmlUrl().toString()
+        ).activate(talks);
     }
 
     /**
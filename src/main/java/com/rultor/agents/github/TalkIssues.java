@@ -10,6 +10,8 @@ import com.jcabi.github.Github;
 import com.jcabi.github.Issue;
 import com.jcabi.github.Repo;
 import com.jcabi.xml.XML;
+import com.rultor.model.Wire;
+import com.rultor.spi.Xpath;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -20,7 +22,7 @@ import lombok.ToString;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = { "github", "xml" })
+@EqualsAndHashCode(of = { "github", "repo", "issue" })
 public final class TalkIssues {
 
     /**
@@ -29,9 +31,14 @@ public final class TalkIssues {
     private final transient Github github;
 
     /**
-     * XML.
+     * Coordinates of the repository.
      */
-    private final transient XML xml;
+    private final transient String repo;
+
+    /**
+     * Number of the issue.
+     */
+    private final transient int issue;
 
     /**
      * Ctor.
@@ -39,8 +46,38 @@ public final class TalkIssues {
      * @param talk Talk XML
      */
     public TalkIssues(final Github ghub, final XML talk) {
+        this(
+            ghub,
+            new Xpath("/talk/wire/github-repo/text()").values(talk).get(0),
+            Integer.parseInt(
+                new Xpath("/talk/wire/github-issue/text()")
+                    .values(talk).get(0)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param ghub Github client
+     * @param wire Wire of the talk
+     * @since 2.0
+     */
+    public TalkIssues(final Github ghub, final Wire wire) {
+        this(ghub, wire.repo().get(), wire.issue().get());
+    }
+
+    /**
+     * Ctor.
+     * @param ghub Github client
+     * @param coords Coordinates of the repository
+     * @param number Number of the issue
+     * @since 2.0
+     */
+    public TalkIssues(final Github ghub, final String coords,
+        final int number) {
         this.github = ghub;
-        this.xml = talk;
+        this.repo = coords;
+        this.issue = number;
     }
 
     /**
@@ -48,17 +85,9 @@ public final class TalkIssues {
      * @return Issue
      */
     public Issue.Smart get() {
-        final XML wire = this.xml.nodes("/talk/wire").get(0);
-        final Coordinates coords = new Coordinates.Simple(
-            wire.xpath("github-repo/text()").get(0)
-        );
-        final Repo repo = this.github.repos().get(coords);
-        return new Issue.Smart(
-            repo.issues().get(
-                Integer.parseInt(
-                    wire.xpath("github-issue/text()").get(0)
-                )
-            )
+        final Repo rpo = this.github.repos().get(
+            new Coordinates.Simple(this.repo)
         );
+        return new Issue.Smart(rpo.issues().get(this.issue));
     }
 }
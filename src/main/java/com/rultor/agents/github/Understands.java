@@ -12,14 +12,18 @@ import com.jcabi.github.Issue;
 import com.jcabi.github.Smarts;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
+import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
 import com.rultor.agents.daemons.Home;
 import com.rultor.spi.Profile;
+import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.iterable.Joined;
@@ -33,7 +37,7 @@ import org.xembly.Directives;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false, of = { "github", "question" })
+@EqualsAndHashCode(callSuper = false, of = { "github", "talks", "question" })
 @SuppressWarnings(
     {
     "PMD.CyclomaticComplexity",
@@ -54,6 +58,11 @@ public final class Understands extends AbstractAgent {
      */
     private final transient Github github;
 
+    /**
+     * Talks, to find logs moved out of the XML.
+     */
+    private final transient Talks talks;
+
     /**
      * Question.
      */
@@ -62,14 +71,17 @@ public final class Understands extends AbstractAgent {
     /**
      * Ctor.
      * @param ghub Github client
+     * @param tlks Talks, with archives of logs
      * @param qtn Question
      */
-    public Understands(final Github ghub, final Question qtn) {
+    public Understands(final Github ghub, final Talks tlks,
+        final Question qtn) {
         super(
             "/talk[@later='true']",
             "/talk/wire[github-repo and github-issue]"
         );
         this.github = ghub;
+        this.talks = tlks;
         this.question = qtn;
     }
 
@@ -78,16 +90,14 @@ public final class Understands extends AbstractAgent {
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
         final Issue.Smart issue = new TalkIssues(this.github, xml).get();
+        final long seen = Understands.seen(xml);
         final Iterator<Comment.Smart> comments = new SafeIterator<>(
             new Smarts<Comment.Smart>(
-                new Joined<Comment>(
-                    Collections.singleton(new FirstComment(issue)),
-                    new Bulk<>(issue.comments().iterate(new Date(0L)))
-                )
+                Understands.comments(issue, seen, Understands.since(xml))
             ).iterator()
         );
-        final long seen = Understands.seen(xml);
         long next = seen;
+        Date last = null;
         int fresh = 0;
         int total = 0;
         Req req = Req.EMPTY;
@@ -103,6 +113,9 @@ public final class Understands extends AbstractAgent {
                 break;
             }
             next = comment.number();
+            if (next > 1L) {
+                last = comment.createdAt();
+            }
             if (!req.equals(Req.EMPTY)) {
                 break;
             }
@@ -131,8 +144,7 @@ public final class Understands extends AbstractAgent {
                 this, "temporary pause in %s#%d, at message #%d",
                 issue.repo().coordinates(), issue.number(), next
             );
-        } else if (xml.xpath(String.format("//archive/log[@id='%d']", next))
-            .isEmpty()) {
+        } else if (!this.archived(xml, next)) {
             dirs.xpath("/talk/request").remove()
                 .xpath("/talk[not(request)]").strict(1)
                 .add("request")
@@ -149,10 +161,41 @@ public final class Understands extends AbstractAgent {
                 .addIf("github-seen")
                 .set(Long.toString(next));
         }
+        if (last != null) {
+            dirs.xpath("/talk/wire")
+                .addIf("github-since")
+                .set(new Time(last).iso());
+        }
         return dirs.xpath("/talk")
             .attr("later", Boolean.toString(!req.equals(Req.EMPTY)));
     }
 
+    /**
+     * The request of this comment was already processed, i.e. there is
+     * a log of it in the archive of the talk, in the XML or, if some
+     * logs were moved out of it (see {@code /talk/archive/@spilled}),
+     * in {@link Talks#archive(String)}.
+     * @param xml XML
+     * @param number Number of the comment
+     * @return TRUE if there is a log
+     */
+    private boolean archived(final XML xml, final long number) {
+        final String hash = Long.toString(number);
+        boolean found = !xml.nodes(
+            String.format("//archive/log[@id='%s']", hash)
+        ).isEmpty();
+        if (!found && !xml.nodes("/talk/archive/@spilled").isEmpty()) {
+            for (final XML log
+                : this.talks.archive(xml.xpath("/talk/@name").get(0))) {
+                if (log.xpath("@id").get(0).equals(hash)) {
+                    found = true;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
     /**
      * Understand.
      * @param comment Comment
@@ -181,6 +224,56 @@ public final class Understands extends AbstractAgent {
         return req;
     }
 
+    /**
+     * Comments of the issue, which may be not seen yet.
+     *
+     * <p>The first comment, which is the body of the issue, is not
+     * there, if any comment was already seen. Comments are requested
+     * from the time of the last seen one, with a margin, since GitHub
+     * keeps the time in seconds. Older comments, if any, are
+     * skipped by their numbers anyway.</p>
+     *
+     * @param issue The issue
+     * @param seen Last seen comment
+     * @param since When it was created, or NULL if not known
+     * @return Comments
+     */
+    private static Iterable<Comment> comments(final Issue.Smart issue,
+        final long seen, final Date since) {
+        final Date from;
+        if (since == null) {
+            from = new Date(0L);
+        } else {
+            from = new Date(since.getTime() - TimeUnit.MINUTES.toMillis(1L));
+        }
+        final Iterable<Comment> comments;
+        if (seen > 0L) {
+            comments = new Bulk<>(issue.comments().iterate(from));
+        } else {
+            comments = new Joined<Comment>(
+                Collections.singleton(new FirstComment(issue)),
+                new Bulk<>(issue.comments().iterate(from))
+            );
+        }
+        return comments;
+    }
+
+    /**
+     * When the last seen message was created.
+     * @param xml XML
+     * @return Date or NULL if not known
+     */
+    private static Date since(final XML xml) {
+        final List<String> since = xml.xpath("/talk/wire/github-since/text()");
+        final Date date;
+        if (since.isEmpty()) {
+            date = null;
+        } else {
+            date = new Date(new Time(since.get(0)).msec());
+        }
+        return date;
+    }
+
     /**
      * Last seen message.
      * @param xml XML
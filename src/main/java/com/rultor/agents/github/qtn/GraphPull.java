@@ -0,0 +1,335 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github.qtn;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.Issue;
+import com.jcabi.github.Pull;
+import com.jcabi.github.PullRef;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Pull request, fetched by a single GraphQL query.
+ *
+ * <p>The state, the title, the repositories and branches of head and
+ * base, the changed files and the checks of the head commit come in
+ * one round-trip, instead of a few paginated REST calls. When
+ * the list of files or checks doesn't fit into the response, only
+ * that part is fetched through REST. When GraphQL is not available,
+ * everything is fetched through REST, as before.</p>
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (500 lines)
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+final class GraphPull {
+
+    /**
+     * The query.
+     */
+    private static final String QUERY = String.join(
+        "\n",
+        "query($owner: String!, $name: String!, $number: Int!) {",
+        " repository(owner: $owner, name: $name) {",
+        "  pullRequest(number: $number) {",
+        "   state title headRefName baseRefName",
+        "   headRepository { nameWithOwner }",
+        "   baseRepository { nameWithOwner }",
+        "   files(first: 100) {",
+        "    pageInfo { hasNextPage } nodes { path }",
+        "   }",
+        "   commits(last: 1) { nodes { commit {",
+        "    checkSuites(first: 20) {",
+        "     pageInfo { hasNextPage } nodes {",
+        "      checkRuns(first: 50) {",
+        "       pageInfo { hasNextPage } nodes { status conclusion }",
+        "      }",
+        "     }",
+        "    }",
+        "   } } }",
+        "  }",
+        " }",
+        "}"
+    );
+
+    /**
+     * Entry point of GitHub API.
+     */
+    private final transient Request entry;
+
+    /**
+     * Pull request.
+     */
+    private final transient Pull pull;
+
+    /**
+     * Ctor.
+     * @param pll Pull request
+     */
+    GraphPull(final Pull pll) {
+        this(pll.repo().github().entry(), pll);
+    }
+
+    /**
+     * Ctor.
+     * @param req Entry point of GitHub API
+     * @param pll Pull request
+     */
+    GraphPull(final Request req, final Pull pll) {
+        this.entry = req;
+        this.pull = pll;
+    }
+
+    /**
+     * Fetch it.
+     * @return Snapshot
+     * @throws IOException If fails
+     */
+    public PullSnapshot snapshot() throws IOException {
+        final JsonObject found = this.query();
+        final PullSnapshot snapshot;
+        if (found == null) {
+            Logger.info(
+                this, "GraphQL is not available for %s#%d, using REST",
+                this.pull.repo().coordinates(), this.pull.number()
+            );
+            snapshot = this.rest();
+        } else {
+            snapshot = new PullSnapshot(
+                Json.createObjectBuilder()
+                    .add("open", "OPEN".equals(found.getString("state")))
+                    .add("title", found.getString("title"))
+                    .add(
+                        "head",
+                        GraphPull.side(
+                            GraphPull.child(found, "headRepository"),
+                            found.getString("headRefName")
+                        )
+                    )
+                    .add(
+                        "base",
+                        GraphPull.side(
+                            GraphPull.child(found, "baseRepository"),
+                            found.getString("baseRefName")
+                        )
+                    )
+                    .add("files", this.files(found.getJsonObject("files")))
+                    .add("green", this.green(found.getJsonObject("commits")))
+                    .build()
+            );
+        }
+        return snapshot;
+    }
+
+    /**
+     * Run the query.
+     * @return The pull request or NULL if it is not found
+     * @throws IOException If fails
+     */
+    private JsonObject query() throws IOException {
+        final Coordinates coords = this.pull.repo().coordinates();
+        final Response response = this.entry.uri().path("/graphql").back()
+            .method(Request.POST)
+            .body().set(
+                Json.createObjectBuilder()
+                    .add("query", GraphPull.QUERY)
+                    .add(
+                        "variables",
+                        Json.createObjectBuilder()
+                            .add("owner", coords.user())
+                            .add("name", coords.repo())
+                            .add("number", this.pull.number())
+                    )
+                    .build()
+            ).back()
+            .fetch();
+        JsonObject found = null;
+        if (response.status() == HttpURLConnection.HTTP_OK) {
+            try (JsonReader reader =
+                Json.createReader(new StringReader(response.body()))) {
+                found = GraphPull.child(
+                    GraphPull.child(
+                        GraphPull.child(reader.readObject(), "data"),
+                        "repository"
+                    ),
+                    "pullRequest"
+                );
+            } catch (final JsonException ex) {
+                Logger.warn(
+                    this, "Broken GraphQL response: %s",
+                    ex.getLocalizedMessage()
+                );
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Names of the changed files.
+     * @param files The files, from GraphQL
+     * @return Names
+     * @throws IOException If fails
+     */
+    private JsonArrayBuilder files(final JsonObject files)
+        throws IOException {
+        final JsonArrayBuilder names = Json.createArrayBuilder();
+        if (GraphPull.more(files)) {
+            for (final JsonObject file : this.pull.files()) {
+                names.add(file.getString("filename"));
+            }
+        } else {
+            for (final JsonObject file : GraphPull.nodes(files)) {
+                names.add(file.getString("path"));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * All checks of the head commit are successful?
+     * @param commits The last commit, from GraphQL
+     * @return TRUE if all of them are completed successfully
+     * @throws IOException If fails
+     */
+    private boolean green(final JsonObject commits) throws IOException {
+        boolean more = false;
+        boolean green = true;
+        for (final JsonObject node : GraphPull.nodes(commits)) {
+            final JsonObject suites = node.getJsonObject("commit")
+                .getJsonObject("checkSuites");
+            more |= GraphPull.more(suites);
+            for (final JsonObject suite : GraphPull.nodes(suites)) {
+                final JsonObject runs = suite.getJsonObject("checkRuns");
+                more |= GraphPull.more(runs);
+                for (final JsonObject run : GraphPull.nodes(runs)) {
+                    green &= "COMPLETED".equals(run.getString("status"))
+                        && "SUCCESS".equals(run.getString("conclusion", ""));
+                }
+            }
+        }
+        if (more) {
+            green = new CheckablePull(this.pull).allChecksSuccessful();
+        }
+        return green;
+    }
+
+    /**
+     * Fetch it all through REST.
+     * @return Snapshot
+     * @throws IOException If fails
+     */
+    private PullSnapshot rest() throws IOException {
+        final Issue.Smart issue = new Issue.Smart(
+            this.pull.repo().issues().get(this.pull.number())
+        );
+        final JsonArrayBuilder files = Json.createArrayBuilder();
+        for (final JsonObject file : this.pull.files()) {
+            files.add(file.getString("filename"));
+        }
+        return new PullSnapshot(
+            Json.createObjectBuilder()
+                .add("open", issue.isOpen())
+                .add("title", issue.title())
+                .add("head", GraphPull.side(this.pull.head()))
+                .add("base", GraphPull.side(this.pull.base()))
+                .add("files", files)
+                .add(
+                    "green",
+                    new CheckablePull(this.pull).allChecksSuccessful()
+                )
+                .build()
+        );
+    }
+
+    /**
+     * Side of the pull request, from REST.
+     * @param ref The side
+     * @return JSON
+     * @throws IOException If fails
+     */
+    private static JsonObjectBuilder side(final PullRef ref)
+        throws IOException {
+        final JsonObjectBuilder side = Json.createObjectBuilder()
+            .add("ref", ref.ref());
+        if (ref.json().isNull("repo")) {
+            side.addNull("repo");
+        } else {
+            side.add("repo", ref.repo().coordinates().toString());
+        }
+        return side;
+    }
+
+    /**
+     * Side of the pull request, from GraphQL.
+     * @param repo The repository or NULL if it is gone
+     * @param ref The branch
+     * @return JSON
+     */
+    private static JsonObjectBuilder side(final JsonObject repo,
+        final String ref) {
+        final JsonObjectBuilder side = Json.createObjectBuilder()
+            .add("ref", ref);
+        if (repo == null) {
+            side.addNull("repo");
+        } else {
+            side.add("repo", repo.getString("nameWithOwner"));
+        }
+        return side;
+    }
+
+    /**
+     * The connection has more pages than the response has?
+     * @param connection The GraphQL connection
+     * @return TRUE if there is more
+     */
+    private static boolean more(final JsonObject connection) {
+        return connection.getJsonObject("pageInfo")
+            .getBoolean("hasNextPage");
+    }
+
+    /**
+     * Nodes of the connection.
+     * @param connection The GraphQL connection
+     * @return Nodes
+     */
+    private static List<JsonObject> nodes(final JsonObject connection) {
+        return connection.getJsonArray("nodes").getValuesAs(JsonObject.class);
+    }
+
+    /**
+     * Child object.
+     * @param json The object or NULL
+     * @param name Name of the child
+     * @return The child or NULL if it is absent or is not an object
+     */
+    private static JsonObject child(final JsonObject json,
+        final String name) {
+        JsonObject child = null;
+        if (json != null
+            && json.getOrDefault(name, JsonValue.NULL) instanceof JsonObject) {
+            child = json.getJsonObject(name);
+        }
+        return child;
+    }
+
+}
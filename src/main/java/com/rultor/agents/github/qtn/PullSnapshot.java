@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github.qtn;
+
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Pull request, as it was when it was fetched, with everything
+ * that {@link QnMerge} needs to know about it.
+ *
+ * <p>It is made by {@link GraphPull} from JSON like this:</p>
+ *
+ * <pre> {
+ *   "open": true,
+ *   "title": "Fix the typo",
+ *   "head": {"repo": "jeff/test", "ref": "fix"},
+ *   "base": {"repo": "yegor256/test", "ref": "master"},
+ *   "files": ["README.md"],
+ *   "green": true
+ * }</pre>
+ *
+ * <p>The {@code repo} is {@code null} when the repository is gone.
+ * The {@code green} is {@code true} when all checks of the head commit
+ * are completed successfully.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+final class PullSnapshot {
+
+    /**
+     * The JSON.
+     */
+    private final transient JsonObject json;
+
+    /**
+     * Ctor.
+     * @param obj The JSON
+     */
+    PullSnapshot(final JsonObject obj) {
+        this.json = obj;
+    }
+
+    /**
+     * Is it open?
+     * @return TRUE if open
+     */
+    public boolean open() {
+        return this.json.getBoolean("open");
+    }
+
+    /**
+     * Its title.
+     * @return Title
+     */
+    public String title() {
+        return this.json.getString("title");
+    }
+
+    /**
+     * The repository of the side is gone?
+     * @param side Either "head" or "base"
+     * @return TRUE if gone
+     */
+    public boolean gone(final String side) {
+        return this.json.getJsonObject(side).isNull("repo");
+    }
+
+    /**
+     * The repository of the side.
+     * @param side Either "head" or "base"
+     * @return Coordinates, like "yegor256/rultor"
+     */
+    public String repo(final String side) {
+        return this.json.getJsonObject(side).getString("repo");
+    }
+
+    /**
+     * The branch of the side.
+     * @param side Either "head" or "base"
+     * @return Branch name
+     */
+    public String ref(final String side) {
+        return this.json.getJsonObject(side).getString("ref");
+    }
+
+    /**
+     * Checks if file is affected by pull request.
+     * @param file File name to check
+     * @return TRUE if affected
+     */
+    public boolean touches(final String file) {
+        boolean result = false;
+        for (final JsonString name
+            : this.json.getJsonArray("files").getValuesAs(JsonString.class)) {
+            if (name.getString().equalsIgnoreCase(file)) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * All checks are successful?
+     * @return TRUE if they are
+     */
+    public boolean green() {
+        return this.json.getBoolean("green");
+    }
+
+}
@@ -7,14 +7,13 @@ package com.rultor.agents.github.qtn;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Comment;
 import com.jcabi.github.Issue;
-import com.jcabi.github.Pull;
-import com.jcabi.github.PullRef;
 import com.jcabi.log.Logger;
 import com.rultor.agents.github.Answer;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.Req;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -43,15 +42,16 @@ public final class QnMerge implements Question {
         final URI home
     ) throws IOException {
         final Issue.Smart issue = new Issue.Smart(comment.issue());
+        final Optional<PullSnapshot> snapshot = QnMerge.snapshot(issue);
         final Req req;
-        if (issue.isPull() && issue.isOpen()) {
+        if (snapshot.isPresent() && snapshot.get().open()) {
             Logger.info(
                 this, "merge request found in %s#%d, comment #%d",
                 issue.repo().coordinates(), issue.number(), comment.number()
             );
-            final CheckablePull pull = new CheckablePull(issue.pull());
+            final PullSnapshot pull = snapshot.get();
             final String sysfile = ".rultor.yml";
-            if (pull.containsFile(sysfile)) {
+            if (pull.touches(sysfile)) {
                 new Answer(comment).post(
                     false,
                     String.format(
@@ -63,7 +63,7 @@ public final class QnMerge implements Question {
                 );
                 req = Req.DONE;
             } else
-                if (pull.allChecksSuccessful()) {
+                if (pull.green()) {
                     new Answer(comment).post(
                         true,
                         String.format(
@@ -71,10 +71,7 @@ public final class QnMerge implements Question {
                             home.toASCIIString()
                         )
                     );
-                    req = QnMerge.pack(
-                        comment,
-                        issue.repo().pulls().get(issue.number())
-                    );
+                    req = QnMerge.pack(comment, issue.number(), pull);
                 } else {
                     new Answer(comment).post(
                         false,
@@ -92,28 +89,48 @@ public final class QnMerge implements Question {
         return req;
     }
 
+    /**
+     * Fetch the pull request of the issue, in one go.
+     * @param issue The issue
+     * @return Snapshot or empty if the issue is not a pull request
+     * @throws IOException If fails
+     */
+    private static Optional<PullSnapshot> snapshot(final Issue.Smart issue)
+        throws IOException {
+        final Optional<PullSnapshot> snapshot;
+        if (issue.isPull()) {
+            snapshot = Optional.of(
+                new GraphPull(
+                    issue.repo().pulls().get(issue.number())
+                ).snapshot()
+            );
+        } else {
+            snapshot = Optional.empty();
+        }
+        return snapshot;
+    }
+
     /**
      * Pack a pull request.
      * @param comment The comment we're in
+     * @param number Number of the pull request
      * @param pull Pull
      * @return Req
      * @throws IOException If fails
      */
     @SuppressWarnings("unchecked")
-    private static Req pack(final Comment.Smart comment,
-        final Pull pull
-    ) throws IOException {
-        final PullRef head = pull.head();
-        final PullRef base = pull.base();
+    private static Req pack(final Comment.Smart comment, final int number,
+        final PullSnapshot pull) throws IOException {
         final Req req;
-        final String repo = "repo";
-        if (head.json().isNull(repo)) {
+        final String head = "head";
+        final String base = "base";
+        if (pull.gone(head)) {
             new Answer(comment).post(
                 false,
                 QnMerge.PHRASES.getString("QnMerge.head-is-gone")
             );
             req = Req.EMPTY;
-        } else if (base.json().isNull(repo)) {
+        } else if (pull.gone(base)) {
             new Answer(comment).post(
                 false,
                 QnMerge.PHRASES.getString("QnMerge.base-is-gone")
@@ -125,32 +142,32 @@ public final class QnMerge implements Question {
                 new MapOf<>(
                     new MapEntry<>(
                         "pull_id",
-                        Integer.toString(pull.number())
+                        Integer.toString(number)
                     ),
                     new MapEntry<>(
                         "pull_title",
-                        new Issue.Smart(comment.issue()).title()
+                        pull.title()
                     ),
                     new MapEntry<>(
                         "fork_branch",
-                        head.ref()
+                        pull.ref(head)
                     ),
                     new MapEntry<>(
                         "head_branch",
-                        base.ref()
+                        pull.ref(base)
                     ),
                     new MapEntry<>(
                         "head",
                         String.format(
                             "git@github.com:%s.git",
-                            base.repo().coordinates().toString()
+                            pull.repo(base)
                         )
                     ),
                     new MapEntry<>(
                         "fork",
                         String.format(
                             "git@github.com:%s.git",
-                            head.repo().coordinates().toString()
+                            pull.repo(head)
                         )
                     )
                 )
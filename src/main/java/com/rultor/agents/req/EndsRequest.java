@@ -6,14 +6,12 @@ package com.rultor.agents.req;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
-import com.jcabi.xml.XML;
-import com.rultor.Time;
-import com.rultor.agents.AbstractAgent;
-import java.util.List;
+import com.rultor.agents.TypedAgent;
+import com.rultor.model.Daemon;
+import com.rultor.model.State;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Finishes and reports merge results.
@@ -23,7 +21,7 @@ import org.xembly.Directives;
 @Immutable
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public final class EndsRequest extends AbstractAgent {
+public final class EndsRequest extends TypedAgent {
 
     /**
      * Ctor.
@@ -36,25 +34,15 @@ public final class EndsRequest extends AbstractAgent {
     }
 
     @Override
-    public Iterable<Directive> process(final XML xml) {
-        final XML daemon = xml.nodes("/talk/daemon").get(0);
-        final int code = Integer.parseInt(daemon.xpath("code/text()").get(0));
-        final long msec = new Time(daemon.xpath("ended/text()").get(0)).msec()
-            - new Time(daemon.xpath("started/text()").get(0)).msec();
-        final boolean success = code == 0;
+    public Iterable<Directive> process(final State state) {
+        final Daemon daemon = state.daemon().get();
+        final long msec = daemon.ended().get().msec()
+            - daemon.started().get().msec();
+        final boolean success = daemon.code().get() == 0;
         Logger.info(this, "request finished: %b", success);
-        final Directives dirs = new Directives().xpath("/talk/request")
-            .add("msec").set(Long.toString(msec)).up()
-            .add("success").set(Boolean.toString(success)).up();
-        final List<String> highlights = daemon.xpath("highlights/text()");
-        if (!highlights.isEmpty()) {
-            dirs.add("highlights").set(highlights.get(0)).up();
-        }
-        final List<String> tail = daemon.xpath("tail/text()");
-        if (!tail.isEmpty()) {
-            dirs.add("tail").set(tail.get(0)).up();
-        }
-        return dirs;
+        return state.request().get().finish(
+            msec, success, daemon.highlights(), daemon.tail()
+        );
     }
 
 }
@@ -8,6 +8,7 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.spi.Profile;
+import com.rultor.spi.Xpath;
 import java.net.UnknownHostException;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -41,13 +42,14 @@ public final class TalkShells {
      * @throws UnknownHostException If fails
      */
     public Shell get() throws UnknownHostException {
-        final XML shell = this.xml.nodes("/talk/shell").get(0);
         return new PfShell(
             Profile.EMPTY,
-            shell.xpath("host/text()").get(0),
-            Integer.parseInt(shell.xpath("port/text()").get(0)),
-            shell.xpath("login/text()").get(0),
-            shell.xpath("key/text()").get(0)
+            new Xpath("/talk/shell/host/text()").values(this.xml).get(0),
+            Integer.parseInt(
+                new Xpath("/talk/shell/port/text()").values(this.xml).get(0)
+            ),
+            new Xpath("/talk/shell/login/text()").values(this.xml).get(0),
+            new Xpath("/talk/shell/key/text()").values(this.xml).get(0)
         ).toSsh();
     }
 }
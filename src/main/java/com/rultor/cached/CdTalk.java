@@ -4,9 +4,8 @@
  */
 package com.rultor.cached;
 
-import com.jcabi.aspects.Cacheable;
-import com.jcabi.aspects.Immutable;
 import com.jcabi.xml.XML;
+import com.rultor.spi.Summary;
 import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.util.Date;
@@ -19,8 +18,7 @@ import org.xembly.Directive;
  *
  * @since 1.51
  */
-@Immutable
-@ToString
+@ToString(of = "origin")
 @EqualsAndHashCode(of = "origin")
 public final class CdTalk implements Talk {
     /**
@@ -28,48 +26,56 @@ public final class CdTalk implements Talk {
      */
     private final transient Talk origin;
 
+    /**
+     * Memory.
+     */
+    private final transient Memo memo;
+
     /**
      * Ctor.
      * @param talk Talks
+     * @param mem Memory
      */
-    CdTalk(final Talk talk) {
+    CdTalk(final Talk talk, final Memo mem) {
         this.origin = talk;
+        this.memo = mem;
     }
 
     @Override
-    @Cacheable
     public Long number() throws IOException {
         return this.origin.number();
     }
 
     @Override
-    @Cacheable
     public String name() throws IOException {
         return this.origin.name();
     }
 
     @Override
-    @Cacheable
     public Date updated() throws IOException {
-        return this.origin.updated();
+        return this.memo.updated(this.origin.name(), this.origin::updated);
     }
 
     @Override
-    @Cacheable
     public XML read() throws IOException {
-        return this.origin.read();
+        return this.memo.xml(this.origin.name(), this.origin::read);
+    }
+
+    @Override
+    public Summary summary() throws IOException {
+        return this.origin.summary();
     }
 
     @Override
-    @Cacheable.FlushBefore
     public void modify(final Iterable<Directive> dirs) throws IOException {
         this.origin.modify(dirs);
+        this.memo.modified(this.origin.name());
     }
 
     @Override
-    @Cacheable.FlushBefore
     public void active(final boolean yes) throws IOException {
         this.origin.active(yes);
+        this.memo.moved(this.origin.name());
     }
 
 }
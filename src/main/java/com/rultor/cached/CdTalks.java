@@ -4,102 +4,158 @@
  */
 package com.rultor.cached;
 
-import com.jcabi.aspects.Cacheable;
-import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Skipped;
+import org.cactoos.list.ListOf;
 
 /**
  * Cached talks.
  *
+ * <p>Results are kept in the {@link Memo}, which forgets only what
+ * is related to the talk being changed.</p>
+ *
  * @since 1.51
  */
-@Immutable
 @ToString
 @EqualsAndHashCode(of = "origin")
 @SuppressWarnings("PMD.TooManyMethods")
 public final class CdTalks implements Talks {
 
+    /**
+     * How many siblings are cached, the rest of them are not.
+     */
+    private static final int PAGE = 20;
+
     /**
      * Original talks.
      */
     private final transient Talks origin;
 
+    /**
+     * Memory.
+     */
+    private final transient Memo memo;
+
     /**
      * Public ctor.
      * @param talks Talks
      */
     public CdTalks(final Talks talks) {
+        this(talks, new Memo());
+    }
+
+    /**
+     * Public ctor.
+     * @param talks Talks
+     * @param mem Memory
+     */
+    public CdTalks(final Talks talks, final Memo mem) {
         this.origin = talks;
+        this.memo = mem;
     }
 
     @Override
-    @Cacheable
     public boolean exists(final long number) {
-        return this.origin.exists(number);
+        return this.memo.exists(
+            CdTalks.key(number), () -> this.origin.exists(number)
+        );
     }
 
     @Override
-    @Cacheable
     public Talk get(final long number) {
-        return this.origin.get(number);
+        return this.memo.talk(
+            CdTalks.key(number),
+            () -> new CdTalk(this.origin.get(number), this.memo)
+        );
     }
 
     @Override
-    @Cacheable
     public boolean exists(final String name) {
-        return this.origin.exists(name);
+        return this.memo.exists(name, () -> this.origin.exists(name));
     }
 
     @Override
-    @Cacheable
     public Talk get(final String name) {
-        return this.origin.get(name);
+        return this.memo.talk(
+            name, () -> new CdTalk(this.origin.get(name), this.memo)
+        );
     }
 
     @Override
-    @Cacheable.FlushBefore
     public void delete(final String name) {
         this.origin.delete(name);
+        this.memo.replaced(name);
     }
 
     @Override
-    @Cacheable.FlushBefore
     public void create(final String repo, final String name)
         throws IOException {
         this.origin.create(repo, name);
+        this.memo.replaced(name);
     }
 
     @Override
-    @Cacheable
     public Iterable<Talk> active() {
-        return new Mapped<>(
-            CdTalk::new,
-            this.origin.active()
+        return this.memo.active(
+            () -> new ListOf<>(this.wrap(this.origin.active()))
         );
     }
 
     @Override
-    @Cacheable(lifetime = 20, unit = TimeUnit.MINUTES)
     public Iterable<Talk> recent() {
-        return new Mapped<>(
-            CdTalk::new,
-            this.origin.recent()
+        return this.memo.recent(
+            () -> new ListOf<>(this.wrap(this.origin.recent()))
         );
     }
 
     @Override
-    @Cacheable
     public Iterable<Talk> siblings(final String repo, final Date since) {
-        return new Mapped<>(
-            CdTalk::new,
-            this.origin.siblings(repo, since)
+        return new Joined<>(
+            this.memo.siblings(
+                String.format("%s %d", repo, since.getTime()),
+                () -> new ListOf<>(
+                    new HeadOf<>(
+                        CdTalks.PAGE,
+                        this.wrap(this.origin.siblings(repo, since))
+                    )
+                )
+            ),
+            new Skipped<>(
+                CdTalks.PAGE,
+                this.wrap(this.origin.siblings(repo, since))
+            )
         );
     }
+
+    @Override
+    public Iterable<XML> archive(final String name) {
+        return this.origin.archive(name);
+    }
+
+    /**
+     * Wrap talks, to cache them too.
+     * @param talks Talks
+     * @return Cached talks
+     */
+    private Iterable<Talk> wrap(final Iterable<Talk> talks) {
+        return new Mapped<>(talk -> new CdTalk(talk, this.memo), talks);
+    }
+
+    /**
+     * Key of the talk by its number.
+     * @param number The number
+     * @return Key
+     */
+    private static String key(final long number) {
+        return String.format("#%d", number);
+    }
 }
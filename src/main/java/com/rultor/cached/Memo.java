@@ -0,0 +1,304 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.cached;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+import org.w3c.dom.Node;
+
+/**
+ * Memory of {@link CdTalks} and {@link CdTalk}.
+ *
+ * <p>Every kind of result has its own cache, with its own lifetime,
+ * bounded by size, and evicting the least recently used entries first.
+ * Results about one talk are kept by its name, so that a modification
+ * of a talk forgets only what is known about this talk, and the lists
+ * where it may be listed.</p>
+ *
+ * <p>XML of talks is kept as DOM, which nobody outside modifies, and
+ * a deep copy of it is given every time it is taken, since the callers
+ * are free to modify what they get, the same way as in
+ * {@code com.rultor.dynamo.Documents}. Copies are made one at a time,
+ * since a DOM is not guaranteed to be safe even for concurrent
+ * reading.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "max")
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Memo {
+
+    /**
+     * Maximum number of entries in each cache.
+     */
+    private final transient long max;
+
+    /**
+     * Existence of talks, by names and by numbers.
+     */
+    private final transient Cache<String, Boolean> exist;
+
+    /**
+     * Talks, by names and by numbers.
+     */
+    private final transient Cache<String, Talk> talks;
+
+    /**
+     * XML of talks, by names, never given out as is.
+     */
+    private final transient Cache<String, Node> docs;
+
+    /**
+     * Times of update of talks, by names.
+     */
+    private final transient Cache<String, Date> updates;
+
+    /**
+     * Active talks.
+     */
+    private final transient Cache<String, List<Talk>> active;
+
+    /**
+     * Recent talks.
+     */
+    private final transient Cache<String, List<Talk>> recent;
+
+    /**
+     * First pages of siblings, by repositories and dates.
+     */
+    private final transient Cache<String, List<Talk>> siblings;
+
+    /**
+     * Ctor.
+     */
+    public Memo() {
+        this(1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param size Maximum number of entries in each cache
+     * @checkstyle MagicNumber (20 lines)
+     */
+    public Memo(final long size) {
+        this.max = size;
+        this.exist = Memo.cache(size, 1L);
+        this.talks = Memo.cache(size, 1L);
+        this.docs = Memo.cache(size, 1L);
+        this.updates = Memo.cache(size, 1L);
+        this.active = Memo.cache(1L, 1L);
+        this.recent = Memo.cache(1L, 20L);
+        this.siblings = Memo.cache(size, 1L);
+    }
+
+    /**
+     * Hits and misses of each cache.
+     * @return Statistics, by names of caches
+     */
+    public Map<String, CacheStats> stats() {
+        final Map<String, CacheStats> map = new LinkedHashMap<>(0);
+        map.put("exists", this.exist.stats());
+        map.put("talks", this.talks.stats());
+        map.put("xml", this.docs.stats());
+        map.put("updated", this.updates.stats());
+        map.put("active", this.active.stats());
+        map.put("recent", this.recent.stats());
+        map.put("siblings", this.siblings.stats());
+        return map;
+    }
+
+    /**
+     * Talk exists?
+     * @param key Name or number of the talk
+     * @param loader Loader
+     * @return TRUE if exists
+     */
+    Boolean exists(final String key, final Callable<Boolean> loader) {
+        return Memo.unchecked(this.exist, key, loader);
+    }
+
+    /**
+     * Talk.
+     * @param key Name or number of the talk
+     * @param loader Loader
+     * @return Talk
+     */
+    Talk talk(final String key, final Callable<Talk> loader) {
+        return Memo.unchecked(this.talks, key, loader);
+    }
+
+    /**
+     * XML of the talk.
+     * @param name Name of the talk
+     * @param loader Loader
+     * @return XML, a new document every time
+     * @throws IOException If fails
+     */
+    XML xml(final String name, final Callable<XML> loader)
+        throws IOException {
+        final Node node = Memo.checked(
+            this.docs, name, () -> loader.call().inner().cloneNode(true)
+        );
+        final Node copy;
+        synchronized (node) {
+            copy = node.cloneNode(true);
+        }
+        return new XMLDocument(copy);
+    }
+
+    /**
+     * When the talk was updated.
+     * @param name Name of the talk
+     * @param loader Loader
+     * @return Date
+     * @throws IOException If fails
+     */
+    Date updated(final String name, final Callable<Date> loader)
+        throws IOException {
+        return Memo.checked(this.updates, name, loader);
+    }
+
+    /**
+     * Active talks.
+     * @param loader Loader
+     * @return Talks
+     */
+    List<Talk> active(final Callable<List<Talk>> loader) {
+        return Memo.unchecked(this.active, "", loader);
+    }
+
+    /**
+     * Recent talks.
+     * @param loader Loader
+     * @return Talks
+     */
+    List<Talk> recent(final Callable<List<Talk>> loader) {
+        return Memo.unchecked(this.recent, "", loader);
+    }
+
+    /**
+     * First page of siblings.
+     * @param key Repository and date
+     * @param loader Loader
+     * @return Talks
+     */
+    List<Talk> siblings(final String key, final Callable<List<Talk>> loader) {
+        return Memo.unchecked(this.siblings, key, loader);
+    }
+
+    /**
+     * Forget everything about the talk, after it was modified.
+     *
+     * <p>Active talks are forgotten too, since the routine must always
+     * see the latest content of them.</p>
+     *
+     * @param name Name of the talk
+     */
+    void modified(final String name) {
+        this.talks.invalidate(name);
+        this.docs.invalidate(name);
+        this.updates.invalidate(name);
+        this.active.invalidateAll();
+    }
+
+    /**
+     * Forget everything about the talk, after it was activated or
+     * deactivated, including the lists where it may be listed.
+     * @param name Name of the talk
+     */
+    void moved(final String name) {
+        this.modified(name);
+        this.recent.invalidateAll();
+        this.siblings.invalidateAll();
+    }
+
+    /**
+     * Forget everything about the talk, after it was created or deleted.
+     *
+     * <p>Talks by numbers are forgotten altogether, since the number
+     * of the talk is not known here.</p>
+     *
+     * @param name Name of the talk
+     */
+    void replaced(final String name) {
+        this.moved(name);
+        this.exist.invalidateAll();
+        this.talks.invalidateAll();
+    }
+
+    /**
+     * Make a cache.
+     * @param size Maximum size
+     * @param minutes Lifetime of entries, in minutes
+     * @param <T> Type of values
+     * @return Cache
+     */
+    private static <T> Cache<String, T> cache(final long size,
+        final long minutes) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(size)
+            .expireAfterWrite(minutes, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Get from the cache or load.
+     * @param cache The cache
+     * @param key The key
+     * @param loader The loader
+     * @param <T> Type of values
+     * @return The value
+     * @throws IOException If fails
+     */
+    private static <T> T checked(final Cache<String, T> cache,
+        final String key, final Callable<T> loader) throws IOException {
+        try {
+            return cache.get(key, loader);
+        } catch (final ExecutionException ex) {
+            Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+            throw new IllegalStateException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Get from the cache or load, without checked exceptions.
+     * @param cache The cache
+     * @param key The key
+     * @param loader The loader
+     * @param <T> Type of values
+     * @return The value
+     */
+    private static <T> T unchecked(final Cache<String, T> cache,
+        final String key, final Callable<T> loader) {
+        try {
+            return Memo.checked(cache, key, loader);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
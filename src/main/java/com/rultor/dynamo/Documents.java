@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+
+/**
+ * Cache of talk documents, already upgraded and validated.
+ *
+ * <p>A document is found by {@link #get(String, long)} only if it was
+ * cached for the same value of the "updated" attribute of the talk, so
+ * a talk modified somewhere else is never served stale. The latest
+ * document of the talk, whatever its "updated" is, is found by
+ * {@link #latest(String)}, which is safe only for modifications,
+ * since they are conditional on the version of the document.
+ * Documents are returned as copies, so that nobody can modify what
+ * is in the cache.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+final class Documents {
+
+    /**
+     * Documents, by talk names.
+     */
+    private final Cache<String, Documents.Doc> cache;
+
+    /**
+     * Ctor.
+     * @param max Maximum number of talks to keep
+     */
+    Documents(final long max) {
+        this.cache = CacheBuilder.newBuilder().maximumSize(max).build();
+    }
+
+    /**
+     * Find a document.
+     * @param name Name of the talk
+     * @param updated When the talk was updated
+     * @return The document or NULL if it is absent
+     */
+    public XML get(final String name, final long updated) {
+        final Documents.Doc doc = this.cache.getIfPresent(name);
+        XML xml = null;
+        if (doc != null && doc.updated == updated) {
+            xml = doc.xml();
+        }
+        return xml;
+    }
+
+    /**
+     * The document is here, for the same "updated"?
+     * @param name Name of the talk
+     * @param updated When the talk was updated
+     * @return TRUE if {@link #get(String, long)} will find it
+     */
+    public boolean has(final String name, final long updated) {
+        final Documents.Doc doc = this.cache.getIfPresent(name);
+        return doc != null && doc.updated == updated;
+    }
+
+    /**
+     * Find the latest document of the talk.
+     * @param name Name of the talk
+     * @return The document or NULL if it is absent
+     */
+    public Documents.Doc latest(final String name) {
+        return this.cache.getIfPresent(name);
+    }
+
+    /**
+     * Put a document.
+     * @param name Name of the talk
+     * @param doc The document
+     */
+    public void put(final String name, final Documents.Doc doc) {
+        this.cache.put(name, doc);
+    }
+
+    /**
+     * Forget the talk.
+     * @param name Name of the talk
+     */
+    public void invalidate(final String name) {
+        this.cache.invalidate(name);
+    }
+
+    /**
+     * Cached document.
+     *
+     * @since 2.0
+     */
+    static final class Doc {
+        /**
+         * When the talk was updated.
+         */
+        private final long updated;
+
+        /**
+         * Version of the document.
+         */
+        private final long ver;
+
+        /**
+         * The XML is stored in the item of the talk, not in the journal?
+         */
+        private final boolean stored;
+
+        /**
+         * The document.
+         */
+        private final XML xml;
+
+        /**
+         * Ctor.
+         * @param upd When the talk was updated
+         * @param version Version of the document
+         * @param inline The XML is stored in the item of the talk
+         * @param doc The document, which is copied
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Doc(final long upd, final long version, final boolean inline,
+            final XML doc) {
+            this.updated = upd;
+            this.ver = version;
+            this.stored = inline;
+            this.xml = Documents.Doc.copy(doc);
+        }
+
+        /**
+         * Version of the document.
+         * @return Version
+         */
+        public long version() {
+            return this.ver;
+        }
+
+        /**
+         * The XML is stored in the item of the talk, not in the journal?
+         * @return TRUE if it is stored in the item
+         */
+        public boolean inline() {
+            return this.stored;
+        }
+
+        /**
+         * The document.
+         * @return A copy of it
+         */
+        public XML xml() {
+            return Documents.Doc.copy(this.xml);
+        }
+
+        /**
+         * Make a deep copy of the document.
+         * @param xml The document
+         * @return The copy
+         */
+        private static XML copy(final XML xml) {
+            return new XMLDocument(xml.inner().cloneNode(true));
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import com.google.common.collect.Iterables;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.iterable.Mapped;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Logs of talks in Dynamo, moved out of their XML.
+ *
+ * <p>When a talk collects too many logs in {@code /talk/archive}, the
+ * oldest of them are moved here and the talk only remembers how many
+ * of them were moved, in {@code /talk/archive/@spilled}. Every log gets
+ * its position in the history of the talk, starting from one.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "region")
+final class DyArchive {
+
+    /**
+     * Table name.
+     */
+    static final String TBL = "archives";
+
+    /**
+     * Name of the talk.
+     */
+    static final String HASH = "talk";
+
+    /**
+     * Position of the log in the history of the talk.
+     */
+    static final String RANGE = "position";
+
+    /**
+     * ID of the log.
+     */
+    static final String ATTR_ID = "id";
+
+    /**
+     * Title of the log.
+     */
+    static final String ATTR_TITLE = "title";
+
+    /**
+     * Index of the request, if any.
+     */
+    static final String ATTR_INDEX = "index";
+
+    /**
+     * URI of the log.
+     */
+    static final String ATTR_URI = "uri";
+
+    /**
+     * How many logs to fetch at once.
+     */
+    private static final int PAGE = 20;
+
+    /**
+     * Region we're in.
+     */
+    private final transient Region region;
+
+    /**
+     * Ctor.
+     * @param reg Region
+     */
+    DyArchive(final Region reg) {
+        this.region = reg;
+    }
+
+    /**
+     * Save logs, which will get positions one after another.
+     * @param talk Name of the talk
+     * @param first Position of the first log
+     * @param logs The logs, the same as {@code /talk/archive/log}
+     */
+    public void save(final String talk, final long first,
+        final List<XML> logs) {
+        final Table table = this.region.table(DyArchive.TBL);
+        long position = first;
+        for (final XML log : logs) {
+            Attributes attrs = new Attributes()
+                .with(DyArchive.HASH, talk)
+                .with(DyArchive.RANGE, position)
+                .with(DyArchive.ATTR_ID, log.xpath("@id").get(0))
+                .with(DyArchive.ATTR_TITLE, log.xpath("@title").get(0))
+                .with(DyArchive.ATTR_URI, log.xpath("text()").get(0));
+            final List<String> index = log.xpath("@index");
+            if (!index.isEmpty()) {
+                attrs = attrs.with(
+                    DyArchive.ATTR_INDEX, Long.parseLong(index.get(0))
+                );
+            }
+            table.put(attrs);
+            ++position;
+        }
+    }
+
+    /**
+     * Delete all logs of the talk.
+     * @param talk Name of the talk
+     */
+    public void delete(final String talk) {
+        Iterables.removeIf(
+            this.region.table(DyArchive.TBL)
+                .frame()
+                .where(DyArchive.HASH, talk),
+            item -> true
+        );
+    }
+
+    /**
+     * Logs of the talk, the newest first, fetched page by page,
+     * only when they are needed.
+     * @param talk Name of the talk
+     * @return Logs, the same as {@code /talk/archive/log}
+     */
+    public Iterable<XML> logs(final String talk) {
+        return new Mapped<>(
+            item -> {
+                final Directives dirs = new Directives().add("log")
+                    .attr("id", item.get(DyArchive.ATTR_ID).getS())
+                    .attr("title", item.get(DyArchive.ATTR_TITLE).getS());
+                if (item.has(DyArchive.ATTR_INDEX)) {
+                    dirs.attr("index", item.get(DyArchive.ATTR_INDEX).getN());
+                }
+                return new XMLDocument(
+                    new Xembler(
+                        dirs.set(item.get(DyArchive.ATTR_URI).getS())
+                    ).xmlQuietly()
+                ).nodes("/log").get(0);
+            },
+            this.region.table(DyArchive.TBL)
+                .frame()
+                .through(
+                    new QueryValve()
+                        .withScanIndexForward(false)
+                        .withConsistentRead(false)
+                        .withLimit(DyArchive.PAGE)
+                )
+                .where(DyArchive.HASH, talk)
+        );
+    }
+
+}
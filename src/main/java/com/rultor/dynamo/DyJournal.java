@@ -0,0 +1,268 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.google.common.collect.Iterables;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.dynamo.Attributes;
+import com.jcabi.dynamo.QueryValve;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Journal of modifications of talks in Dynamo.
+ *
+ * <p>Every modification of a talk is a small entry here, with the
+ * Xembly directives and the version they lead to. Some entries also
+ * have the entire XML of the talk in this version, a snapshot. The
+ * current content of the talk is the latest snapshot with all entries
+ * after it applied. Entries are never modified and never deleted, while
+ * the talk exists, so the journal is the entire history of the talk;
+ * the entries before the latest snapshot are simply not read.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "region")
+final class DyJournal {
+
+    /**
+     * Table name.
+     */
+    static final String TBL = "journals";
+
+    /**
+     * Name of the talk.
+     */
+    static final String HASH = "talk";
+
+    /**
+     * Version of the talk, which the entry leads to.
+     */
+    static final String RANGE = "version";
+
+    /**
+     * Xembly directives.
+     */
+    static final String ATTR_DIRS = "dirs";
+
+    /**
+     * Entire XML of the talk, in this version, encoded by {@link Codec}.
+     */
+    static final String ATTR_XML_ZIP = "zipxml";
+
+    /**
+     * When the entry was made.
+     */
+    static final String ATTR_TIME = "time";
+
+    /**
+     * How many entries to fetch at once.
+     */
+    private static final int PAGE = 50;
+
+    /**
+     * Region we're in.
+     */
+    private final transient Region region;
+
+    /**
+     * Ctor.
+     * @param reg Region
+     */
+    DyJournal(final Region reg) {
+        this.region = reg;
+    }
+
+    /**
+     * Add an entry, unless there is an entry with this version already.
+     * @param talk Name of the talk
+     * @param version Version, which the entry leads to
+     * @param dirs The directives
+     * @param snapshot Encoded XML of this version or an empty array
+     * @return TRUE if added, FALSE if somebody added it before
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public boolean append(final String talk, final long version,
+        final Iterable<Directive> dirs, final byte[] snapshot) {
+        final Table table = this.region.table(DyJournal.TBL);
+        final AmazonDynamoDB aws = table.region().aws();
+        final Attributes attrs = new Attributes()
+            .with(DyJournal.HASH, talk)
+            .with(DyJournal.RANGE, version)
+            .with(DyJournal.ATTR_DIRS, new Directives(dirs).toString())
+            .with(DyJournal.ATTR_TIME, System.currentTimeMillis());
+        boolean added;
+        try {
+            aws.putItem(
+                new PutItemRequest()
+                    .withTableName(table.name())
+                    .withItem(
+                        DyJournal.withSnapshot(attrs, snapshot)
+                    )
+                    .withExpected(
+                        Collections.singletonMap(
+                            DyJournal.RANGE, new ExpectedAttributeValue(false)
+                        )
+                    )
+            );
+            added = true;
+        } catch (final ConditionalCheckFailedException ex) {
+            added = false;
+        } finally {
+            aws.shutdown();
+        }
+        return added;
+    }
+
+    /**
+     * Entries after the version, starting from the latest snapshot,
+     * if there is one, the oldest first.
+     *
+     * <p>Entries are read backwards, only until the first snapshot,
+     * so the entries before it are not even fetched.</p>
+     *
+     * @param talk Name of the talk
+     * @param version The version
+     * @return Entries, with their versions, directives and snapshots
+     */
+    public List<Map<String, AttributeValue>> tail(final String talk,
+        final long version) {
+        final Table table = this.region.table(DyJournal.TBL);
+        final AmazonDynamoDB aws = table.region().aws();
+        final LinkedList<Map<String, AttributeValue>> entries =
+            new LinkedList<>();
+        final Map<String, Condition> conditions = new HashMap<>(2);
+        conditions.put(
+            DyJournal.HASH,
+            new Condition()
+                .withComparisonOperator(ComparisonOperator.EQ)
+                .withAttributeValueList(new AttributeValue(talk))
+        );
+        conditions.put(
+            DyJournal.RANGE,
+            new Condition()
+                .withComparisonOperator(ComparisonOperator.GT)
+                .withAttributeValueList(
+                    new AttributeValue().withN(Long.toString(version))
+                )
+        );
+        try {
+            Map<String, AttributeValue> start = null;
+            boolean found = false;
+            do {
+                final QueryResult result = aws.query(
+                    new QueryRequest()
+                        .withTableName(table.name())
+                        .withKeyConditions(conditions)
+                        .withScanIndexForward(false)
+                        .withConsistentRead(true)
+                        .withLimit(DyJournal.PAGE)
+                        .withAttributesToGet(
+                            DyJournal.RANGE, DyJournal.ATTR_DIRS,
+                            DyJournal.ATTR_XML_ZIP
+                        )
+                        .withExclusiveStartKey(start)
+                );
+                for (final Map<String, AttributeValue> entry
+                    : result.getItems()) {
+                    entries.addFirst(entry);
+                    found = entry.containsKey(DyJournal.ATTR_XML_ZIP);
+                    if (found) {
+                        break;
+                    }
+                }
+                start = result.getLastEvaluatedKey();
+            } while (!found && start != null && !start.isEmpty());
+        } finally {
+            aws.shutdown();
+        }
+        return entries;
+    }
+
+    /**
+     * Delete the entry of the talk with this version, which happens only
+     * when the modification, which the entry belongs to, didn't happen.
+     * @param talk Name of the talk
+     * @param version The version
+     */
+    public void delete(final String talk, final long version) {
+        Iterables.removeIf(
+            this.region.table(DyJournal.TBL)
+                .frame()
+                .through(
+                    new QueryValve()
+                        .withConsistentRead(true)
+                        .withAttributesToGet(DyJournal.RANGE)
+                )
+                .where(DyJournal.HASH, talk)
+                .where(
+                    DyJournal.RANGE,
+                    new Condition()
+                        .withComparisonOperator(ComparisonOperator.EQ)
+                        .withAttributeValueList(
+                            new AttributeValue().withN(
+                                Long.toString(version)
+                            )
+                        )
+                ),
+            item -> true
+        );
+    }
+
+    /**
+     * Delete all entries of the talk.
+     * @param talk Name of the talk
+     */
+    public void delete(final String talk) {
+        Iterables.removeIf(
+            this.region.table(DyJournal.TBL)
+                .frame()
+                .where(DyJournal.HASH, talk),
+            item -> true
+        );
+    }
+
+    /**
+     * Add the snapshot to the attributes, if it is not empty.
+     * @param attrs Attributes of the entry
+     * @param snapshot Encoded XML or an empty array
+     * @return Attributes
+     */
+    private static Attributes withSnapshot(final Attributes attrs,
+        final byte[] snapshot) {
+        final Attributes all;
+        if (snapshot.length == 0) {
+            all = attrs;
+        } else {
+            all = attrs.with(
+                DyJournal.ATTR_XML_ZIP,
+                new AttributeValue().withB(ByteBuffer.wrap(snapshot))
+            );
+        }
+        return all;
+    }
+
+}
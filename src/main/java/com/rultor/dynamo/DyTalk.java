@@ -4,38 +4,62 @@
  */
 package com.rultor.dynamo;
 
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.AttributeAction;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.AttributeValueUpdate;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.ExpectedAttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.dynamo.AttributeUpdates;
+import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Item;
+import com.jcabi.dynamo.Region;
+import com.jcabi.dynamo.Table;
+import com.jcabi.immutable.Array;
+import com.jcabi.log.Logger;
 import com.jcabi.xml.StrictXML;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.jcabi.xml.XSLDocument;
+import com.rultor.spi.Summary;
 import com.rultor.spi.Talk;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import com.rultor.spi.Upgraded;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.StringReader;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.apache.commons.io.IOUtils;
 import org.cactoos.list.ListOf;
 import org.w3c.dom.Node;
 import org.xembly.Directive;
+import org.xembly.Directives;
 import org.xembly.ImpossibleModificationException;
 import org.xembly.Xembler;
 
 /**
  * Talk in Dynamo.
  *
+ * <p>By default, the entire XML is saved into the item of the talk on
+ * every modification, with the next version, only if nobody else saved
+ * a newer version. With the journal turned on, only the directives are
+ * added to {@link DyJournal}, and the entire XML is saved there too,
+ * once in a while, as a snapshot, while the item keeps only the
+ * version and the attributes of the summary, which are cheap to update.
+ * The journal is used for all talks that were modified with it, even
+ * after it is turned off.</p>
+ *
  * @since 1.0
  */
 @Immutable
@@ -51,17 +75,79 @@ public final class DyTalk implements Talk {
      */
     private static final int LIMIT = 399 << 10;
 
+    /**
+     * Documents already read, upgraded and validated, shared by all talks.
+     */
+    private static final Documents DOCS = new Documents(1000L);
+
+    /**
+     * Codec of the XML, which also reads what was written by older codecs.
+     */
+    private static final Codec CODEC = new Codec.Auto(
+        new Codec.Dictionary()
+    );
+
+    /**
+     * How many times to try to save the XML, if it is modified concurrently.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * How many logs to keep in {@code /talk/archive}, the older ones
+     * are moved to {@link DyArchive}.
+     */
+    private static final int KEEP = 50;
+
+    /**
+     * How many entries of {@link DyJournal} to collect, before saving
+     * the entire XML there again.
+     */
+    private static final int COMPACT = 16;
+
+    /**
+     * Attributes of the item, which the XML is loaded from.
+     */
+    static final Array<String> LOADED = new Array<>(
+        DyTalks.HASH, DyTalks.ATTR_XML, DyTalks.ATTR_XML_ZIP,
+        DyTalks.ATTR_VERSION, DyTalks.ATTR_UPDATED
+    );
+
+    /**
+     * Region we're in.
+     */
+    private final transient Region region;
+
     /**
      * Item.
      */
     private final transient Item item;
 
+    /**
+     * Add modifications to {@link DyJournal}, instead of saving
+     * the entire XML?
+     */
+    private final transient boolean journal;
+
     /**
      * Ctor.
+     * @param reg Region
      * @param itm Item
      */
-    DyTalk(final Item itm) {
+    DyTalk(final Region reg, final Item itm) {
+        this(reg, itm, false);
+    }
+
+    /**
+     * Ctor.
+     * @param reg Region
+     * @param itm Item
+     * @param jrnl Add modifications to the journal
+     * @since 2.0
+     */
+    DyTalk(final Region reg, final Item itm, final boolean jrnl) {
+        this.region = reg;
         this.item = itm;
+        this.journal = jrnl;
     }
 
     @Override
@@ -81,68 +167,105 @@ public final class DyTalk implements Talk {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The summary is taken from the attributes of the item, which
+     * are saved on every modification. Only talks not modified since
+     * these attributes were introduced have to be read.</p>
+     */
     @Override
-    public XML read() throws IOException {
-        final String xml;
-        if (this.item.has(DyTalks.ATTR_XML_ZIP)) {
-            xml = DyTalk.unzip(
-                this.item.get(DyTalks.ATTR_XML_ZIP).getB().array()
+    public Summary summary() throws IOException {
+        final Summary summary;
+        if (this.item.has(DyTalks.ATTR_PUBLIC)) {
+            final long spilled;
+            if (this.item.has(DyTalks.ATTR_SPILLED)) {
+                spilled = Long.parseLong(
+                    this.item.get(DyTalks.ATTR_SPILLED).getN()
+                );
+            } else {
+                spilled = 0L;
+            }
+            summary = new Summary(
+                Boolean.parseBoolean(this.item.get(DyTalks.ATTR_PUBLIC).getS()),
+                this.text(DyTalks.ATTR_HREF),
+                this.text(DyTalks.ATTR_TITLE),
+                DyTalk.logs(this.text(DyTalks.ATTR_LOGS)),
+                spilled
             );
         } else {
-            xml = this.item.get(DyTalks.ATTR_XML).getS();
+            summary = new Summary(this.read());
         }
-        return new StrictXML(
-            Talk.UPGRADE.transform(new XMLDocument(xml)),
-            Talk.SCHEMA
-        );
+        return summary;
+    }
+
+    @Override
+    public XML read() throws IOException {
+        final String name = this.name();
+        XML doc = DyTalk.DOCS.get(name, this.updated().getTime());
+        if (doc == null) {
+            final Documents.Doc loaded = this.load();
+            DyTalk.DOCS.put(name, loaded);
+            doc = loaded.xml();
+        }
+        return doc;
+    }
+
+    /**
+     * The XML of this version of the talk is in memory already?
+     * @return TRUE if {@link #read()} will not go to DynamoDB
+     * @throws IOException If fails
+     */
+    boolean cached() throws IOException {
+        return DyTalk.DOCS.has(this.name(), this.updated().getTime());
+    }
+
+    /**
+     * Put the XML into memory, from the attributes of the item, which
+     * were fetched together with other talks, see {@link DyTalks#active()}.
+     * @param saved Attributes of the item, as in {@link #snapshot()}
+     * @throws IOException If fails
+     */
+    void preload(final Map<String, AttributeValue> saved)
+        throws IOException {
+        DyTalk.DOCS.put(this.name(), this.load(saved));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Directives are applied to the latest XML known to this JVM and
+     * saved with the next version, only if nobody else saved it. If
+     * somebody did, the talk is read again and the directives are
+     * applied again, a few times.</p>
+     */
     @Override
     public void modify(final Iterable<Directive> dirs) throws IOException {
         if (!new ListOf<>(dirs).isEmpty()) {
-            final XML xml = this.read();
-            final Node node = xml.inner();
-            try {
-                new Xembler(dirs).apply(node);
-            } catch (final ImpossibleModificationException ex) {
-                throw new IllegalStateException(
-                    String.format(
-                        "failed to apply %s to %s",
-                        dirs.toString(), xml
-                    ),
-                    ex
-                );
-            }
-            final byte[] body = DyTalk.zip(
-                XSLDocument.STRIP.transform(
-                    new StrictXML(new XMLDocument(node), Talk.SCHEMA)
-                ).toString()
-            );
-            if (body.length > DyTalk.LIMIT) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        // @checkstyle LineLength (1 line)
-                        "XML is too big (%d bytes, maximum is %d), even after ZIP, in \"%s\"",
-                        body.length, DyTalk.LIMIT,
-                        this.item.get(DyTalks.HASH).getS()
-                    )
+            int attempt = 1;
+            while (!this.save(dirs)) {
+                if (attempt >= DyTalk.ATTEMPTS) {
+                    throw new IllegalStateException(
+                        String.format(
+                            // @checkstyle LineLength (1 line)
+                            "Talk \"%s\" was modified concurrently %d times in a row, gave up",
+                            this.name(), attempt
+                        )
+                    );
+                }
+                Logger.info(
+                    this, "Talk \"%s\" was modified concurrently, attempt #%d",
+                    this.name(), attempt
                 );
+                DyTalk.DOCS.invalidate(this.name());
+                ++attempt;
             }
-            final AttributeValue value = new AttributeValue();
-            value.setB(ByteBuffer.wrap(body));
-            this.item.put(
-                new AttributeUpdates()
-                    .with(DyTalks.ATTR_UPDATED, System.currentTimeMillis())
-                    .with(
-                        DyTalks.ATTR_XML_ZIP,
-                        new AttributeValueUpdate(value, AttributeAction.PUT)
-                    )
-            );
         }
     }
 
     @Override
     public void active(final boolean yes) throws IOException {
+        DyTalk.DOCS.invalidate(this.name());
         this.item.put(
             new AttributeUpdates()
                 .with(DyTalks.ATTR_ACTIVE, yes)
@@ -151,35 +274,496 @@ public final class DyTalk implements Talk {
     }
 
     /**
-     * Zip the XML.
-     * @param xml The XML content
-     * @return Zipped content
+     * Apply directives to the latest XML and save it with the next
+     * version, if nobody saved this version yet.
+     * @param dirs Directives
+     * @return TRUE if saved, FALSE if the next version is taken already
+     * @throws IOException If fails
+     */
+    private boolean save(final Iterable<Directive> dirs) throws IOException {
+        Documents.Doc doc = DyTalk.DOCS.latest(this.name());
+        if (doc == null) {
+            doc = this.load();
+        }
+        final XML xml = doc.xml();
+        final Node node = xml.inner().cloneNode(true);
+        try {
+            new Xembler(dirs).apply(node);
+        } catch (final ImpossibleModificationException ex) {
+            throw new IllegalStateException(
+                String.format(
+                    "failed to apply %s to %s",
+                    dirs.toString(), xml
+                ),
+                ex
+            );
+        }
+        final boolean saved;
+        if (this.journal) {
+            saved = this.append(doc, dirs, node);
+        } else {
+            saved = this.rewrite(doc, node);
+        }
+        return saved;
+    }
+
+    /**
+     * Save the entire XML into the item, if the version of the item
+     * is still the same.
+     * @param doc The document, before modification
+     * @param node The XML after modification
+     * @return TRUE if saved, FALSE if the version is not the same anymore
+     * @throws IOException If fails
+     */
+    private boolean rewrite(final Documents.Doc doc, final Node node)
+        throws IOException {
+        final byte[] body = this.body(node);
+        final long version = doc.version() + 1L;
+        final long updated = System.currentTimeMillis();
+        final boolean saved = this.update(
+            doc.version(),
+            DyTalk.summary(node, updated)
+                .with(DyTalks.ATTR_VERSION, version)
+                .with(
+                    DyTalks.ATTR_XML_ZIP,
+                    new AttributeValueUpdate(
+                        new AttributeValue().withB(ByteBuffer.wrap(body)),
+                        AttributeAction.PUT
+                    )
+                )
+        );
+        if (saved) {
+            DyTalk.DOCS.put(
+                this.name(),
+                new Documents.Doc(
+                    updated, version, true, new XMLDocument(node)
+                )
+            );
+            Logger.debug(
+                this, "Talk \"%s\" saved as v%d, %d bytes",
+                this.name(), version, body.length
+            );
+        }
+        return saved;
+    }
+
+    /**
+     * Add directives to the journal, if nobody added the next version
+     * yet, and update the version and the summary in the item.
+     *
+     * <p>The entire XML goes to the journal too, if the version is a
+     * multiple of {@link #COMPACT}, or there are too many logs in it, or
+     * it is still in the item, which happens on the first modification
+     * with the journal. In the latter case, the XML is removed from
+     * the item. Entries of the journal are never deleted, they are the
+ * history of the talk.</p>
+ *
+ * <p>If the item can't be updated, because somebody saved a newer
+ * version without the journal, the entry is deleted and FALSE is
+ * returned, so that the modification is tried again.</p>
+     *
+     * @param doc The document, before modification
+     * @param dirs Directives
+     * @param node The XML after modification
+     * @return TRUE if added, FALSE if the next version is taken already
+     *  or the item was modified by somebody else
+     * @throws IOException If fails
+     */
+    private boolean append(final Documents.Doc doc,
+        final Iterable<Directive> dirs, final Node node) throws IOException {
+        final String name = this.name();
+        final long version = doc.version() + 1L;
+        final boolean snapshot = doc.inline()
+            || version % (long) DyTalk.COMPACT == 0L
+            || DyTalk.crowded(node);
+        byte[] body = new byte[0];
+        if (snapshot) {
+            body = this.body(node);
+        } else {
+            new StrictXML(new XMLDocument(node), Talk.SCHEMA);
+        }
+        final DyJournal jrnl = new DyJournal(this.region);
+        boolean added = jrnl.append(name, version, dirs, body);
+        if (added) {
+            final long updated = System.currentTimeMillis();
+            AttributeUpdates updates = DyTalk.summary(node, updated)
+                .with(DyTalks.ATTR_VERSION, version);
+            if (doc.inline()) {
+                updates = updates
+                    .with(DyTalks.ATTR_XML, DyTalk.update(""))
+                    .with(DyTalks.ATTR_XML_ZIP, DyTalk.update(""));
+            }
+            added = this.update(doc.version(), updates);
+            if (added) {
+                DyTalk.DOCS.put(
+                    name,
+                    new Documents.Doc(
+                        updated, version, false, new XMLDocument(node)
+                    )
+                );
+                Logger.debug(
+                    this, "Talk \"%s\" modified to v%d, %d bytes in journal",
+                    name, version, body.length
+                );
+            } else {
+                jrnl.delete(name, version);
+                DyTalk.DOCS.invalidate(name);
+                Logger.warn(
+                    this, "Talk \"%s\" v%d was modified without the journal",
+                    name, doc.version()
+                );
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Update the item, if its version is still the same.
+     * @param version Version of the item
+     * @param updates Updates
+     * @return TRUE if updated, FALSE if the version is not the same anymore
      * @throws IOException If fails
      */
-    private static byte[] zip(final String xml) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final OutputStream output = new GZIPOutputStream(baos);
-        IOUtils.copy(
-            IOUtils.toInputStream(xml, StandardCharsets.UTF_8),
-            output
+    private boolean update(final long version,
+        final AttributeUpdates updates) throws IOException {
+        final ExpectedAttributeValue expected;
+        if (version == 0L) {
+            expected = new ExpectedAttributeValue(false);
+        } else {
+            expected = new ExpectedAttributeValue(
+                new AttributeValue().withN(Long.toString(version))
+            );
+        }
+        final Table table = this.item.frame().table();
+        final AmazonDynamoDB aws = table.region().aws();
+        boolean updated;
+        try {
+            aws.updateItem(
+                new UpdateItemRequest()
+                    .withTableName(table.name())
+                    .withKey(new Attributes().with(DyTalks.HASH, this.name()))
+                    .withAttributeUpdates(updates)
+                    .withExpected(
+                        Collections.singletonMap(
+                            DyTalks.ATTR_VERSION, expected
+                        )
+                    )
+            );
+            updated = true;
+        } catch (final ConditionalCheckFailedException ex) {
+            updated = false;
+        } finally {
+            aws.shutdown();
+        }
+        return updated;
+    }
+
+    /**
+     * Read the latest XML and its version from the item and, if the XML
+     * is not there or the journal is used, from the journal.
+     * @return The document
+     * @throws IOException If fails
+     */
+    private Documents.Doc load() throws IOException {
+        return this.load(this.snapshot());
+    }
+
+    /**
+     * Read the latest XML and its version from the attributes of the item
+     * and, if the XML is not there or the journal is used, from
+     * the journal.
+     * @param saved Attributes of the item, as in {@link #snapshot()}
+     * @return The document
+     * @throws IOException If fails
+     */
+    private Documents.Doc load(final Map<String, AttributeValue> saved)
+        throws IOException {
+        final String name = this.name();
+        final long version = DyTalk.number(saved, DyTalks.ATTR_VERSION);
+        final boolean inline = saved.containsKey(DyTalks.ATTR_XML_ZIP)
+            || saved.containsKey(DyTalks.ATTR_XML);
+        List<Map<String, AttributeValue>> tail = Collections.emptyList();
+        if (!inline) {
+            tail = new DyJournal(this.region).tail(name, 0L);
+        } else if (this.journal) {
+            tail = new DyJournal(this.region).tail(name, version);
+        }
+        final String base;
+        final List<Map<String, AttributeValue>> entries;
+        if (!tail.isEmpty()
+            && tail.get(0).containsKey(DyJournal.ATTR_XML_ZIP)) {
+            base = DyTalk.CODEC.decode(
+                tail.get(0).get(DyJournal.ATTR_XML_ZIP).getB().array()
+            );
+            entries = tail.subList(1, tail.size());
+        } else if (inline) {
+            base = DyTalk.stored(saved);
+            entries = tail;
+        } else {
+            throw new IllegalStateException(
+                String.format(
+                    "There is no snapshot of talk \"%s\" in the journal",
+                    name
+                )
+            );
+        }
+        long head = version;
+        if (!tail.isEmpty()) {
+            head = DyTalk.number(tail.get(tail.size() - 1), DyJournal.RANGE);
+        }
+        final Node node = new Upgraded(new XMLDocument(base)).get()
+            .inner().cloneNode(true);
+        for (final Map<String, AttributeValue> entry : entries) {
+            final Directives dirs = new Directives(
+                entry.get(DyJournal.ATTR_DIRS).getS()
+            );
+            try {
+                new Xembler(dirs).apply(node);
+            } catch (final ImpossibleModificationException ex) {
+                throw new IllegalStateException(
+                    String.format("failed to replay %s", dirs), ex
+                );
+            }
+        }
+        return new Documents.Doc(
+            DyTalk.number(saved, DyTalks.ATTR_UPDATED), head, inline,
+            new StrictXML(new XMLDocument(node), Talk.SCHEMA)
         );
-        output.close();
-        return baos.toByteArray();
     }
 
     /**
-     * Unzip the XML.
-     * @param bytes The XML content
-     * @return Unzipped content
+     * The version, the time of update and the XML, if it is there,
+     * fetched from the item together.
+     * @return Attributes
+     * @throws IOException If fails
+     */
+    private Map<String, AttributeValue> snapshot() throws IOException {
+        final Table table = this.item.frame().table();
+        final AmazonDynamoDB aws = table.region().aws();
+        try {
+            return aws.getItem(
+                new GetItemRequest()
+                    .withTableName(table.name())
+                    .withKey(new Attributes().with(DyTalks.HASH, this.name()))
+                    .withConsistentRead(true)
+                    .withAttributesToGet(DyTalk.LOADED)
+            ).getItem();
+        } finally {
+            aws.shutdown();
+        }
+    }
+
+    /**
+     * Text attribute of the item.
+     * @param attr Name of the attribute
+     * @return Value or empty string, if it is absent
+     * @throws IOException If fails
+     */
+    private String text(final String attr) throws IOException {
+        final String text;
+        if (this.item.has(attr)) {
+            text = this.item.get(attr).getS();
+        } else {
+            text = "";
+        }
+        return text;
+    }
+
+    /**
+     * Logs, as a JSON array of objects with IDs and titles, the oldest
+     * first, or an empty string if there are no logs.
+     * @param logs Titles by IDs
+     * @return JSON
+     */
+    private static String logs(final Map<String, String> logs) {
+        final String text;
+        if (logs.isEmpty()) {
+            text = "";
+        } else {
+            final JsonArrayBuilder array = Json.createArrayBuilder();
+            for (final Map.Entry<String, String> log : logs.entrySet()) {
+                array.add(
+                    Json.createObjectBuilder()
+                        .add("id", log.getKey())
+                        .add("title", log.getValue())
+                );
+            }
+            text = array.build().toString();
+        }
+        return text;
+    }
+
+    /**
+     * Logs from the JSON, which was made by {@link #logs(Map)}.
+     * @param text JSON or empty string
+     * @return Titles by IDs
+     */
+    private static Map<String, String> logs(final String text) {
+        final Map<String, String> logs = new LinkedHashMap<>(0);
+        if (!text.isEmpty()) {
+            try (JsonReader reader =
+                Json.createReader(new StringReader(text))) {
+                for (final JsonObject log
+                    : reader.readArray().getValuesAs(JsonObject.class)) {
+                    logs.put(log.getString("id"), log.getString("title"));
+                }
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Update of a text attribute, which removes it, if the text is empty.
+     * @param text The text
+     * @return Update
+     */
+    private static AttributeValueUpdate update(final String text) {
+        final AttributeValueUpdate update;
+        if (text.isEmpty()) {
+            update = new AttributeValueUpdate()
+                .withAction(AttributeAction.DELETE);
+        } else {
+            update = new AttributeValueUpdate(
+                new AttributeValue().withS(text), AttributeAction.PUT
+            );
+        }
+        return update;
+    }
+
+    /**
+     * Are there too many logs in the XML?
+     * @param node The XML of the talk
+     * @return TRUE if some of them must be moved to {@link DyArchive}
+     */
+    private static boolean crowded(final Node node) {
+        return new XMLDocument(node).nodes("/talk/archive/log").size()
+            > DyTalk.KEEP;
+    }
+
+    /**
+     * Make the entire XML to be saved, moving the oldest logs out of it.
+     * @param node The XML of the talk, to be modified
+     * @return Encoded XML
      * @throws IOException If fails
      */
-    private static String unzip(final byte[] bytes) throws IOException {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        IOUtils.copy(
-            new GZIPInputStream(new ByteArrayInputStream(bytes)),
-            baos
+    private byte[] body(final Node node) throws IOException {
+        try {
+            this.spill(node);
+        } catch (final ImpossibleModificationException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final byte[] body = DyTalk.CODEC.encode(
+            XSLDocument.STRIP.transform(
+                new StrictXML(new XMLDocument(node), Talk.SCHEMA)
+            ).toString()
         );
-        return baos.toString(StandardCharsets.UTF_8);
+        if (body.length > DyTalk.LIMIT) {
+            throw new IllegalArgumentException(
+                String.format(
+                    // @checkstyle LineLength (1 line)
+                    "XML is too big (%d bytes, maximum is %d), even after ZIP, in \"%s\"",
+                    body.length, DyTalk.LIMIT, this.name()
+                )
+            );
+        }
+        return body;
+    }
+
+    /**
+     * Attributes of the summary of the XML, to be saved into the item.
+     * @param node The XML of the talk
+     * @param updated When the talk is updated
+     * @return Updates
+     */
+    private static AttributeUpdates summary(final Node node,
+        final long updated) {
+        final Summary summary = new Summary(new XMLDocument(node));
+        return new AttributeUpdates()
+            .with(DyTalks.ATTR_UPDATED, updated)
+            .with(DyTalks.ATTR_PUBLIC, Boolean.toString(summary.visible()))
+            .with(DyTalks.ATTR_HREF, DyTalk.update(summary.href()))
+            .with(DyTalks.ATTR_TITLE, DyTalk.update(summary.title()))
+            .with(
+                DyTalks.ATTR_LOGS,
+                DyTalk.update(DyTalk.logs(summary.logs()))
+            )
+            .with(DyTalks.ATTR_SPILLED, summary.spilled());
+    }
+
+    /**
+     * Numeric attribute.
+     * @param attrs Attributes
+     * @param name Name of the attribute
+     * @return Value or zero, if it is absent
+     */
+    private static long number(final Map<String, AttributeValue> attrs,
+        final String name) {
+        final long number;
+        if (attrs.containsKey(name)) {
+            number = Long.parseLong(attrs.get(name).getN());
+        } else {
+            number = 0L;
+        }
+        return number;
+    }
+
+    /**
+     * XML saved in the item.
+     * @param attrs Attributes of the item
+     * @return XML
+     * @throws IOException If fails
+     */
+    private static String stored(final Map<String, AttributeValue> attrs)
+        throws IOException {
+        final String xml;
+        if (attrs.containsKey(DyTalks.ATTR_XML_ZIP)) {
+            xml = DyTalk.CODEC.decode(
+                attrs.get(DyTalks.ATTR_XML_ZIP).getB().array()
+            );
+        } else {
+            xml = attrs.get(DyTalks.ATTR_XML).getS();
+        }
+        return xml;
+    }
+
+    /**
+     * Move the oldest logs to {@link DyArchive}, if there are too many.
+     * @param node The XML of the talk, to be modified
+     * @throws IOException If fails
+     * @throws ImpossibleModificationException If fails
+     */
+    private void spill(final Node node)
+        throws IOException, ImpossibleModificationException {
+        final XML xml = new XMLDocument(node);
+        final List<XML> logs = xml.nodes("/talk/archive/log");
+        if (logs.size() > DyTalk.KEEP) {
+            final int extra = logs.size() - DyTalk.KEEP;
+            final List<String> before = xml.xpath("/talk/archive/@spilled");
+            final long spilled;
+            if (before.isEmpty()) {
+                spilled = 0L;
+            } else {
+                spilled = Long.parseLong(before.get(0));
+            }
+            new DyArchive(this.region).save(
+                this.name(), spilled + 1L, logs.subList(0, extra)
+            );
+            new Xembler(
+                new Directives()
+                    .xpath(
+                        String.format(
+                            "/talk/archive/log[position() <= %d]", extra
+                        )
+                    )
+                    .remove()
+                    .xpath("/talk/archive")
+                    .attr("spilled", Long.toString(spilled + (long) extra))
+            ).apply(node);
+            Logger.info(
+                this, "%d logs of \"%s\" moved to the archive, %d total",
+                extra, this.name(), spilled + (long) extra
+            );
+        }
     }
 
 }
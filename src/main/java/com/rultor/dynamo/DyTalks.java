@@ -5,32 +5,60 @@
 package com.rultor.dynamo;
 
 import co.stateful.Counter;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.Select;
 import com.google.common.collect.Iterables;
-import com.jcabi.aspects.Immutable;
 import com.jcabi.dynamo.Attributes;
 import com.jcabi.dynamo.Conditions;
 import com.jcabi.dynamo.QueryValve;
 import com.jcabi.dynamo.Region;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.HeadOf;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 
 /**
  * Talks in Dynamo.
  *
+ * <p>Numbers of new talks are taken from {@link Numbers}, which
+ * reserves them in blocks, so the same instance of this class should
+ * be used for all talks of the JVM, otherwise every instance reserves
+ * its own block.</p>
+ *
+ * <p>The indexes {@link #IDX_ACTIVE} and {@link #IDX_SIBLINGS} project
+ * only the attributes of the summary and the version, not the XML, as in
+ * {@code src/test/dynamodb/talks.json}. DynamoDB can't change the
+ * projection of an existing index, so a table made with the
+ * {@code ALL} projection has to be migrated, one index after another:
+ * delete the index with {@code aws dynamodb update-table
+ * --global-secondary-index-updates '[{"Delete":{"IndexName":"active"}}]'},
+ * wait until it is gone, and create it again with {@code "Create"} and
+ * the definition from {@code talks.json}; do the same for
+ * {@code siblings}. While an index is absent or is being built, the
+ * queries against it fail, so stop the application for the time of the
+ * migration, or migrate when it is not busy.</p>
+ *
  * @since 1.0
  */
-@Immutable
 @ToString
 @EqualsAndHashCode(of = "region")
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.DataClass"})
@@ -96,15 +124,71 @@ public final class DyTalks implements Talks {
      */
     public static final String ATTR_UPDATED = "updated";
 
+    /**
+     * Version of the talk, incremented on every modification. The XML
+     * in the item, if it is there, is of this version, otherwise it is
+     * in {@link DyJournal}.
+     * @since 2.0
+     */
+    public static final String ATTR_VERSION = "version";
+
+    /**
+     * Is it public, the same as {@code /talk/@public}.
+     * @since 2.0
+     */
+    public static final String ATTR_PUBLIC = "public";
+
+    /**
+     * URL of the wire, the same as {@code /talk/wire/href}.
+     * @since 2.0
+     */
+    public static final String ATTR_HREF = "href";
+
+    /**
+     * Title of the latest log, the same as {@code /talk/archive/log/@title}.
+     * @since 2.0
+     */
+    public static final String ATTR_TITLE = "title";
+
+    /**
+     * Logs in {@code /talk/archive}, a JSON array of objects with
+     * their IDs and titles, the oldest first.
+     * @since 2.0
+     */
+    public static final String ATTR_LOGS = "logs";
+
+    /**
+     * How many logs were moved to the archive, the same as
+     * {@code /talk/archive/@spilled}.
+     * @since 2.0
+     */
+    public static final String ATTR_SPILLED = "spilled";
+
+    /**
+     * How many numbers of talks to reserve at once, by default.
+     */
+    private static final long BLOCK = 100L;
+
+    /**
+     * How many talks to fetch in one {@code BatchGetItem}, which is
+     * the maximum DynamoDB allows.
+     */
+    private static final int BATCH = 100;
+
     /**
      * Region we're in.
      */
     private final transient Region region;
 
     /**
-     * Counter of talks.
+     * Numbers of talks.
+     */
+    private final transient Numbers numbers;
+
+    /**
+     * Add modifications of talks to {@link DyJournal}?
      */
-    private final transient Counter counter;
+    private final transient boolean journal;
 
     /**
      * Public ctor.
@@ -112,8 +196,31 @@ public final class DyTalks implements Talks {
      * @param cnt Counter of talks
      */
     public DyTalks(final Region reg, final Counter cnt) {
+        this(reg, cnt, false);
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region
+     * @param cnt Counter of talks
+     * @param jrnl Add modifications of talks to the journal
+     * @since 2.0
+     */
+    public DyTalks(final Region reg, final Counter cnt, final boolean jrnl) {
+        this(reg, new Numbers(cnt, DyTalks.BLOCK), jrnl);
+    }
+
+    /**
+     * Public ctor.
+     * @param reg Region
+     * @param nums Numbers of talks
+     * @param jrnl Add modifications of talks to the journal
+     * @since 2.0
+     */
+    public DyTalks(final Region reg, final Numbers nums, final boolean jrnl) {
         this.region = reg;
-        this.counter = cnt;
+        this.numbers = nums;
+        this.journal = jrnl;
     }
 
     @Override
@@ -133,6 +240,7 @@ public final class DyTalks implements Talks {
     @Override
     public Talk get(final long number) {
         return new DyTalk(
+            this.region,
             this.region.table(DyTalks.TBL)
                 .frame()
                 .through(
@@ -144,7 +252,8 @@ public final class DyTalks implements Talks {
                         .withAttributesToGet(DyTalks.HASH, DyTalks.ATTR_NUMBER)
                 )
                 .where(DyTalks.ATTR_NUMBER, Conditions.equalTo(number))
-                .iterator().next()
+                .iterator().next(),
+            this.journal
         );
     }
 
@@ -160,15 +269,20 @@ public final class DyTalks implements Talks {
     @Override
     public Talk get(final String name) {
         return new DyTalk(
+            this.region,
             this.region.table(DyTalks.TBL)
                 .frame()
                 .through(
                     new QueryValve()
                         .withLimit(1)
-                        .withAttributesToGet(DyTalks.ATTR_NUMBER)
+                        .withAttributesToGet(
+                            DyTalks.ATTR_NUMBER, DyTalks.ATTR_UPDATED,
+                            DyTalks.ATTR_VERSION
+                        )
                 )
                 .where(DyTalks.HASH, name)
-                .iterator().next()
+                .iterator().next(),
+            this.journal
         );
     }
 
@@ -181,16 +295,19 @@ public final class DyTalks implements Talks {
                 .where(DyTalks.HASH, name),
             item -> true
         );
+        new DyArchive(this.region).delete(name);
+        new DyJournal(this.region).delete(name);
     }
 
     @Override
     public void create(final String repo, final String name)
         throws IOException {
-        final long number = this.counter.incrementAndGet(1L);
+        final long number = this.numbers.next();
         this.region.table(DyTalks.TBL).put(
             new Attributes()
                 .with(DyTalks.HASH, name)
                 .with(DyTalks.ATTR_ACTIVE, Boolean.toString(true))
+                .with(DyTalks.ATTR_PUBLIC, Boolean.toString(true))
                 .with(DyTalks.ATTR_REPO, repo)
                 .with(DyTalks.ATTR_NUMBER, number)
                 .with(DyTalks.ATTR_UPDATED, System.currentTimeMillis())
@@ -201,12 +318,21 @@ public final class DyTalks implements Talks {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the attributes that identify the talk and its version are
+     * fetched, in one paged query of the index. The XML is taken from
+     * the memory of {@link DyTalk}, if it was already read in this
+     * version. The XML of all talks that are not there is fetched
+     * right away, with {@code BatchGetItem}, a hundred talks per
+     * request, instead of one {@code GetItem} per talk later.</p>
+     */
     @Override
     public Iterable<Talk> active() {
-        return new Mapped<>(
-            DyTalk::new,
-            new HeadOf<>(
-                10,
+        final List<DyTalk> talks = new ListOf<>(
+            new Mapped<>(
+                item -> new DyTalk(this.region, item, this.journal),
                 this.region.table(DyTalks.TBL)
                     .frame()
                     .through(
@@ -215,12 +341,19 @@ public final class DyTalks implements Talks {
                             .withConsistentRead(false)
                             .withSelect(Select.SPECIFIC_ATTRIBUTES)
                             .withAttributesToGet(
-                                DyTalks.HASH, DyTalks.ATTR_NUMBER
+                                DyTalks.HASH, DyTalks.ATTR_NUMBER,
+                                DyTalks.ATTR_UPDATED, DyTalks.ATTR_VERSION
                             )
                     )
                     .where(DyTalks.ATTR_ACTIVE, Boolean.toString(true))
             )
         );
+        try {
+            this.preload(talks);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return new ArrayList<>(talks);
     }
 
     @Override
@@ -230,15 +363,13 @@ public final class DyTalks implements Talks {
             new Filtered<>(
                 input -> {
                     try {
-                        return !input.read().nodes(
-                            "/talk[@public='true']"
-                        ).isEmpty();
+                        return input.summary().visible();
                     } catch (final IOException ex) {
                         throw new IllegalStateException(ex);
                     }
                 },
                 new Mapped<>(
-                    DyTalk::new,
+                    item -> new DyTalk(this.region, item, this.journal),
                     this.region.table(DyTalks.TBL)
                         .frame()
                         .through(
@@ -260,7 +391,7 @@ public final class DyTalks implements Talks {
     @Override
     public Iterable<Talk> siblings(final String repo, final Date since) {
         return new Mapped<>(
-            DyTalk::new,
+            item -> new DyTalk(this.region, item, this.journal),
             this.region.table(DyTalks.TBL)
                 .frame()
                 .through(
@@ -284,4 +415,82 @@ public final class DyTalks implements Talks {
                 )
         );
     }
+
+    @Override
+    public Iterable<XML> archive(final String name) {
+        return new DyArchive(this.region).logs(name);
+    }
+
+    /**
+     * Fetch the XML of the talks, which are not in memory yet, with
+     * {@code BatchGetItem}.
+     *
+     * <p>A talk, which XML can't be loaded, is left alone, it will be
+     * loaded again, and fail, when it is read.</p>
+     *
+     * @param talks Talks
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void preload(final List<DyTalk> talks) throws IOException {
+        final Map<String, DyTalk> missed = new HashMap<>(talks.size());
+        for (final DyTalk talk : talks) {
+            if (!talk.cached()) {
+                missed.put(talk.name(), talk);
+            }
+        }
+        final String table = this.region.table(DyTalks.TBL).name();
+        final List<String> names = new ArrayList<>(missed.keySet());
+        final AmazonDynamoDB aws = this.region.aws();
+        try {
+            for (int idx = 0; idx < names.size(); idx += DyTalks.BATCH) {
+                final List<Map<String, AttributeValue>> keys =
+                    new ArrayList<>(DyTalks.BATCH);
+                for (final String name : names.subList(
+                    idx, Math.min(idx + DyTalks.BATCH, names.size())
+                )) {
+                    keys.add(new Attributes().with(DyTalks.HASH, name));
+                }
+                Map<String, KeysAndAttributes> request = Collections
+                    .singletonMap(
+                        table,
+                        new KeysAndAttributes()
+                            .withKeys(keys)
+                            .withConsistentRead(true)
+                            .withAttributesToGet(DyTalk.LOADED)
+                    );
+                while (request != null && !request.isEmpty()) {
+                    final BatchGetItemResult result = aws.batchGetItem(
+                        new BatchGetItemRequest().withRequestItems(request)
+                    );
+                    for (final Map<String, AttributeValue> saved
+                        : result.getResponses().getOrDefault(
+                            table, Collections.emptyList()
+                        )) {
+                        final DyTalk talk = missed.get(
+                            saved.get(DyTalks.HASH).getS()
+                        );
+                        try {
+                            talk.preload(saved);
+                            // @checkstyle IllegalCatchCheck (1 line)
+                        } catch (final IOException | RuntimeException ex) {
+                            Logger.warn(
+                                this, "Can't preload %s: %[exception]s",
+                                talk, ex
+                            );
+                        }
+                    }
+                    request = result.getUnprocessedKeys();
+                }
+            }
+        } finally {
+            aws.shutdown();
+        }
+        if (!names.isEmpty()) {
+            Logger.info(
+                this, "Preloaded %d of %d active talks in batches",
+                names.size(), talks.size()
+            );
+        }
+    }
 }
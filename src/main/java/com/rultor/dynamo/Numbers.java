@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import co.stateful.Counter;
+import java.io.IOException;
+import lombok.ToString;
+
+/**
+ * Numbers of talks, reserved in blocks.
+ *
+ * <p>The counter is incremented by the size of the block at once,
+ * and then numbers from the block are given out one by one, without
+ * talking to the counter. Since every block is reserved atomically,
+ * numbers stay unique, even when many nodes use the same counter.
+ * Numbers not given out before the JVM stops are lost, there is no
+ * way to return them to the counter safely.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = {"block", "next", "last"})
+public final class Numbers {
+
+    /**
+     * The counter.
+     */
+    private final transient Counter counter;
+
+    /**
+     * How many numbers to reserve at once.
+     */
+    private final transient long block;
+
+    /**
+     * The number to give out next.
+     */
+    private transient long next;
+
+    /**
+     * The last reserved number.
+     */
+    private transient long last;
+
+    /**
+     * Ctor.
+     * @param cnt The counter
+     * @param size How many numbers to reserve at once
+     */
+    public Numbers(final Counter cnt, final long size) {
+        if (size < 1L) {
+            throw new IllegalArgumentException(
+                String.format("Block size must be positive: %d", size)
+            );
+        }
+        this.counter = cnt;
+        this.block = size;
+        this.next = 1L;
+    }
+
+    /**
+     * Give out the next number, reserving a new block if necessary.
+     * @return The number
+     * @throws IOException If fails
+     */
+    public synchronized long next() throws IOException {
+        if (this.next > this.last) {
+            this.last = this.counter.incrementAndGet(this.block);
+            this.next = this.last - this.block + 1L;
+        }
+        final long number = this.next;
+        ++this.next;
+        return number;
+    }
+
+}
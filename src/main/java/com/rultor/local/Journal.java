@@ -0,0 +1,549 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.local;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import lombok.ToString;
+
+/**
+ * Append-only journal of talks in a file, with indexes in memory.
+ *
+ * <p>Every change of a talk is appended to the file as a new line
+ * with the entire talk. When the journal is opened, the file is read
+ * line by line, the last line of each talk wins, and the file is
+ * rewritten with only the latest lines. It is rewritten the same way
+ * when there are too many obsolete lines in it. If the last line is
+ * not finished or is broken, since the process died while it was being
+ * appended, it is ignored and disappears when the file is
+ * rewritten.</p>
+ *
+ * <p>The indexes are the same as in DynamoDB: by number, active
+ * talks by the time of update, and talks of each repository by
+ * the time of update.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "file")
+@SuppressWarnings("PMD.TooManyMethods")
+final class Journal {
+
+    /**
+     * How many obsolete lines to tolerate, before rewriting the file.
+     */
+    private static final int SLACK = 1000;
+
+    /**
+     * Order of rows, by the time of update.
+     */
+    private static final Comparator<Journal.Row> ORDER = Comparator
+        .comparingLong((Journal.Row row) -> row.updated)
+        .thenComparing(row -> row.name);
+
+    /**
+     * The file.
+     */
+    private final transient Path file;
+
+    /**
+     * Rows by names.
+     */
+    private final transient Map<String, Journal.Row> names;
+
+    /**
+     * Names by numbers.
+     */
+    private final transient Map<Long, String> numbers;
+
+    /**
+     * Active rows, the oldest first.
+     */
+    private final transient NavigableSet<Journal.Row> active;
+
+    /**
+     * Inactive rows, the oldest first.
+     */
+    private final transient NavigableSet<Journal.Row> inactive;
+
+    /**
+     * Rows of each repository, the oldest first.
+     */
+    private final transient Map<String, NavigableSet<Journal.Row>> repos;
+
+    /**
+     * How many lines are in the file.
+     */
+    private transient long lines;
+
+    /**
+     * The biggest number ever given to a talk.
+     */
+    private transient long last;
+
+    /**
+     * Ctor.
+     * @param path The file, which may be absent
+     * @throws IOException If fails
+     */
+    Journal(final File path) throws IOException {
+        this.file = path.toPath();
+        this.names = new HashMap<>(0);
+        this.numbers = new HashMap<>(0);
+        this.active = new TreeSet<>(Journal.ORDER);
+        this.inactive = new TreeSet<>(Journal.ORDER);
+        this.repos = new HashMap<>(0);
+        if (Files.exists(this.file)) {
+            final byte[] bytes = Files.readAllBytes(this.file);
+            final List<String> all = new String(bytes, StandardCharsets.UTF_8)
+                .lines().collect(Collectors.toList());
+            final boolean torn = bytes.length > 0
+                && bytes[bytes.length - 1] != '\n';
+            for (int idx = 0; idx < all.size(); ++idx) {
+                final boolean tail = idx == all.size() - 1;
+                try {
+                    if (tail && torn) {
+                        throw new IllegalStateException(
+                            "The line is not finished"
+                        );
+                    }
+                    this.replay(all.get(idx));
+                } catch (final IllegalStateException ex) {
+                    if (!tail) {
+                        throw ex;
+                    }
+                    Logger.warn(
+                        this, "The last line of %s is ignored: %s",
+                        this.file, ex.getMessage()
+                    );
+                }
+            }
+        }
+        this.compact();
+    }
+
+    /**
+     * Find a row by name.
+     * @param name The name
+     * @return The row or NULL if absent
+     */
+    public synchronized Journal.Row row(final String name) {
+        return this.names.get(name);
+    }
+
+    /**
+     * Find a name by number.
+     * @param number The number
+     * @return The name or NULL if absent
+     */
+    public synchronized String name(final long number) {
+        return this.numbers.get(number);
+    }
+
+    /**
+     * Add a new row, giving it the next number.
+     * @param repo The repository
+     * @param name The name
+     * @param xml The XML of the talk, made from the number
+     * @throws IOException If fails
+     */
+    public synchronized void create(final String repo, final String name,
+        final LongFunction<String> xml) throws IOException {
+        if (this.names.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format("Talk \"%s\" already exists", name)
+            );
+        }
+        final long number = this.last + 1L;
+        this.put(
+            new Journal.Row(
+                name, repo, number, true, System.currentTimeMillis(),
+                xml.apply(number)
+            )
+        );
+    }
+
+    /**
+     * Change an existing row.
+     * @param name The name
+     * @param change The change
+     * @throws IOException If fails
+     */
+    public synchronized void update(final String name,
+        final Journal.Change change) throws IOException {
+        final Journal.Row row = this.names.get(name);
+        if (row == null) {
+            throw new IllegalArgumentException(
+                String.format("Talk \"%s\" not found", name)
+            );
+        }
+        this.put(change.apply(row));
+    }
+
+    /**
+     * Replace the row, if nobody replaced it since it was read.
+     * @param before The row, as it was read
+     * @param after The new row
+     * @return TRUE if replaced, FALSE if the row is not the same anymore
+     * @throws IOException If fails
+     */
+    public synchronized boolean replace(final Journal.Row before,
+        final Journal.Row after) throws IOException {
+        final boolean same = this.names.get(before.name) == before;
+        if (same) {
+            this.put(after);
+        }
+        return same;
+    }
+
+    /**
+     * Delete a row, if it exists.
+     * @param name The name
+     * @throws IOException If fails
+     */
+    public synchronized void delete(final String name) throws IOException {
+        if (this.names.containsKey(name)) {
+            this.append(String.join("\t", "-", name));
+            this.unindex(name);
+        }
+    }
+
+    /**
+     * Names of active rows, the oldest first.
+     * @return Names
+     */
+    public synchronized List<String> active() {
+        return Journal.namesOf(this.active);
+    }
+
+    /**
+     * Names of inactive rows, the newest first.
+     * @return Names
+     */
+    public synchronized List<String> inactive() {
+        return Journal.namesOf(this.inactive.descendingSet());
+    }
+
+    /**
+     * Names of rows of the repository, updated before the time,
+     * the newest first.
+     * @param repo The repository
+     * @param before The time, in milliseconds
+     * @return Names
+     */
+    public synchronized List<String> siblings(final String repo,
+        final long before) {
+        final NavigableSet<Journal.Row> rows = this.repos.get(repo);
+        final List<String> list;
+        if (rows == null) {
+            list = new ArrayList<>(0);
+        } else {
+            list = Journal.namesOf(
+                rows.headSet(
+                    new Journal.Row("", repo, 0L, false, before, ""),
+                    false
+                ).descendingSet()
+            );
+        }
+        return list;
+    }
+
+    /**
+     * Save the row and index it.
+     * @param row The row
+     * @throws IOException If fails
+     */
+    private void put(final Journal.Row row) throws IOException {
+        this.append(row.line());
+        this.index(row);
+        if (this.lines > (long) this.names.size() * 2L + Journal.SLACK) {
+            this.compact();
+        }
+    }
+
+    /**
+     * Apply one line of the file.
+     * @param line The line
+     */
+    private void replay(final String line) {
+        final String[] parts = line.split("\t");
+        try {
+            if ("+".equals(parts[0]) && parts.length == Journal.Row.PARTS) {
+                this.index(Journal.Row.parse(parts));
+            } else if ("-".equals(parts[0]) && parts.length == 2) {
+                this.unindex(parts[1]);
+            } else if ("#".equals(parts[0]) && parts.length == 2) {
+                this.last = Math.max(this.last, Long.parseLong(parts[1]));
+            } else {
+                throw new IllegalArgumentException("Unknown line");
+            }
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalStateException(
+                String.format("Broken line in the journal: \"%s\"", line),
+                ex
+            );
+        }
+        ++this.lines;
+    }
+
+    /**
+     * Rewrite the file with only the latest rows.
+     * @throws IOException If fails
+     */
+    private void compact() throws IOException {
+        final List<String> content = new ArrayList<>(this.names.size() + 1);
+        content.add(String.join("\t", "#", Long.toString(this.last)));
+        for (final Journal.Row row : this.names.values()) {
+            content.add(row.line());
+        }
+        final Path temp = this.file.resolveSibling(
+            String.format("%s.tmp", this.file.getFileName())
+        );
+        Files.write(temp, content, StandardCharsets.UTF_8);
+        Files.move(
+            temp, this.file,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+        this.lines = content.size();
+    }
+
+    /**
+     * Append a line to the file.
+     * @param line The line
+     * @throws IOException If fails
+     */
+    private void append(final String line) throws IOException {
+        Files.write(
+            this.file,
+            String.format("%s%n", line).getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND
+        );
+        ++this.lines;
+    }
+
+    /**
+     * Put the row into the indexes, replacing its previous version.
+     * @param row The row
+     */
+    private void index(final Journal.Row row) {
+        this.unindex(row.name);
+        this.names.put(row.name, row);
+        this.numbers.put(row.number, row.name);
+        if (row.active) {
+            this.active.add(row);
+        } else {
+            this.inactive.add(row);
+        }
+        this.repos.computeIfAbsent(
+            row.repo, repo -> new TreeSet<>(Journal.ORDER)
+        ).add(row);
+        this.last = Math.max(this.last, row.number);
+    }
+
+    /**
+     * Remove the row from the indexes.
+     * @param name The name of it
+     */
+    private void unindex(final String name) {
+        final Journal.Row row = this.names.remove(name);
+        if (row != null) {
+            this.numbers.remove(row.number);
+            this.active.remove(row);
+            this.inactive.remove(row);
+            this.repos.get(row.repo).remove(row);
+        }
+    }
+
+    /**
+     * Names of the rows.
+     * @param rows The rows
+     * @return Names
+     */
+    private static List<String> namesOf(final Collection<Journal.Row> rows) {
+        final List<String> list = new ArrayList<>(rows.size());
+        for (final Journal.Row row : rows) {
+            list.add(row.name);
+        }
+        return list;
+    }
+
+    /**
+     * Change of a row.
+     *
+     * @since 2.0
+     */
+    interface Change {
+        /**
+         * Change the row.
+         * @param row The row
+         * @return New row
+         * @throws IOException If fails
+         */
+        Journal.Row apply(Journal.Row row) throws IOException;
+    }
+
+    /**
+     * One talk.
+     *
+     * @since 2.0
+     * @checkstyle ParameterNumberCheck (100 lines)
+     */
+    @ToString(of = {"name", "number", "active", "updated"})
+    static final class Row {
+        /**
+         * How many parts are in the line.
+         */
+        private static final int PARTS = 7;
+
+        /**
+         * The name.
+         */
+        private final String name;
+
+        /**
+         * The repository.
+         */
+        private final String repo;
+
+        /**
+         * The number.
+         */
+        private final long number;
+
+        /**
+         * Is it active?
+         */
+        private final boolean active;
+
+        /**
+         * When updated, in milliseconds.
+         */
+        private final long updated;
+
+        /**
+         * The XML.
+         */
+        private final String xml;
+
+        /**
+         * Ctor.
+         * @param nme The name
+         * @param rpo The repository
+         * @param num The number
+         * @param act Is it active?
+         * @param upd When updated
+         * @param text The XML
+         */
+        Row(final String nme, final String rpo, final long num,
+            final boolean act, final long upd, final String text) {
+            this.name = nme;
+            this.repo = rpo;
+            this.number = num;
+            this.active = act;
+            this.updated = upd;
+            this.xml = text;
+        }
+
+        /**
+         * The number.
+         * @return Number
+         */
+        public long number() {
+            return this.number;
+        }
+
+        /**
+         * When updated.
+         * @return Milliseconds
+         */
+        public long updated() {
+            return this.updated;
+        }
+
+        /**
+         * The XML.
+         * @return XML
+         */
+        public String xml() {
+            return this.xml;
+        }
+
+        /**
+         * The same row, with another XML.
+         * @param text The XML
+         * @return New row
+         */
+        public Journal.Row with(final String text) {
+            return new Journal.Row(
+                this.name, this.repo, this.number, this.active,
+                System.currentTimeMillis(), text
+            );
+        }
+
+        /**
+         * The same row, active or not.
+         * @param yes Is it active?
+         * @return New row
+         */
+        public Journal.Row with(final boolean yes) {
+            return new Journal.Row(
+                this.name, this.repo, this.number, yes,
+                System.currentTimeMillis(), this.xml
+            );
+        }
+
+        /**
+         * Line for the file.
+         * @return Line
+         */
+        String line() {
+            return String.join(
+                "\t", "+", this.name, this.repo,
+                Long.toString(this.number), Boolean.toString(this.active),
+                Long.toString(this.updated),
+                Base64.getEncoder().encodeToString(
+                    this.xml.getBytes(StandardCharsets.UTF_8)
+                )
+            );
+        }
+
+        /**
+         * Parse the line from the file.
+         * @param parts Parts of the line
+         * @return Row
+         * @checkstyle MagicNumber (15 lines)
+         */
+        static Journal.Row parse(final String... parts) {
+            return new Journal.Row(
+                parts[1], parts[2], Long.parseLong(parts[3]),
+                Boolean.parseBoolean(parts[4]), Long.parseLong(parts[5]),
+                new String(
+                    Base64.getDecoder().decode(parts[6]),
+                    StandardCharsets.UTF_8
+                )
+            );
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.local;
+
+import com.jcabi.xml.StrictXML;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSLDocument;
+import com.rultor.spi.Summary;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Upgraded;
+import java.io.IOException;
+import java.util.Date;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.list.ListOf;
+import org.w3c.dom.Node;
+import org.xembly.Directive;
+import org.xembly.ImpossibleModificationException;
+import org.xembly.Xembler;
+
+/**
+ * Talk in a local file.
+ *
+ * @since 2.0
+ */
+@ToString(of = "label")
+@EqualsAndHashCode(of = {"journal", "label"})
+final class LcTalk implements Talk {
+
+    /**
+     * How many times to try to modify the talk, if it is modified
+     * concurrently.
+     */
+    private static final int ATTEMPTS = 5;
+
+    /**
+     * The journal.
+     */
+    private final transient Journal journal;
+
+    /**
+     * The name.
+     */
+    private final transient String label;
+
+    /**
+     * Ctor.
+     * @param jrnl The journal
+     * @param name The name
+     */
+    LcTalk(final Journal jrnl, final String name) {
+        this.journal = jrnl;
+        this.label = name;
+    }
+
+    @Override
+    public Long number() {
+        return this.row().number();
+    }
+
+    @Override
+    public String name() {
+        return this.label;
+    }
+
+    @Override
+    public Date updated() {
+        return new Date(this.row().updated());
+    }
+
+    @Override
+    public XML read() {
+        return LcTalk.xml(this.row());
+    }
+
+    @Override
+    public Summary summary() {
+        return new Summary(this.read());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The new XML is made and validated outside of the lock of the
+     * journal, which is shared by all talks, and is saved only if
+     * nobody changed the talk in the meantime, otherwise it is made
+     * again.</p>
+     */
+    @Override
+    public void modify(final Iterable<Directive> dirs) throws IOException {
+        if (!new ListOf<>(dirs).isEmpty()) {
+            int attempt = 1;
+            while (true) {
+                final Journal.Row row = this.row();
+                final Node node = LcTalk.xml(row).inner().cloneNode(true);
+                try {
+                    new Xembler(dirs).apply(node);
+                } catch (final ImpossibleModificationException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                final Journal.Row after = row.with(
+                    XSLDocument.STRIP.transform(
+                        new StrictXML(new XMLDocument(node), Talk.SCHEMA)
+                    ).toString()
+                );
+                if (this.journal.replace(row, after)) {
+                    break;
+                }
+                if (attempt >= LcTalk.ATTEMPTS) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Talk \"%s\" was modified concurrently %d times",
+                            this.label, attempt
+                        )
+                    );
+                }
+                ++attempt;
+            }
+        }
+    }
+
+    @Override
+    public void active(final boolean yes) throws IOException {
+        this.journal.update(
+            this.label, row -> row.with(yes)
+        );
+    }
+
+    /**
+     * The row in the journal.
+     * @return Row
+     */
+    private Journal.Row row() {
+        final Journal.Row row = this.journal.row(this.label);
+        if (row == null) {
+            throw new IllegalStateException(
+                String.format("Talk \"%s\" is gone", this.label)
+            );
+        }
+        return row;
+    }
+
+    /**
+     * XML of the row, upgraded and validated.
+     * @param row The row
+     * @return XML
+     */
+    private static XML xml(final Journal.Row row) {
+        return new StrictXML(
+            new Upgraded(new XMLDocument(row.xml())).get(),
+            Talk.SCHEMA
+        );
+    }
+
+}
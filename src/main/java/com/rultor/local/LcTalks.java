@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.local;
+
+import com.jcabi.xml.XML;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Date;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Talks in a local file, for a single node, without DynamoDB.
+ *
+ * <p>All talks are kept in memory and every change is appended to
+ * the journal in the directory, which is read back when the
+ * application starts again. There must be only one instance of the
+ * class per directory.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = "journal")
+@SuppressWarnings("PMD.TooManyMethods")
+public final class LcTalks implements Talks {
+
+    /**
+     * The journal.
+     */
+    private final transient Journal journal;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @throws IOException If fails to read the journal
+     */
+    public LcTalks(final File dir) throws IOException {
+        this(new Journal(new File(dir, "talks.log")));
+    }
+
+    /**
+     * Ctor.
+     * @param jrnl The journal
+     */
+    LcTalks(final Journal jrnl) {
+        this.journal = jrnl;
+    }
+
+    @Override
+    public boolean exists(final long number) {
+        return this.journal.name(number) != null;
+    }
+
+    @Override
+    public Talk get(final long number) {
+        final String name = this.journal.name(number);
+        if (name == null) {
+            throw new IllegalArgumentException(
+                String.format("Talk #%d not found", number)
+            );
+        }
+        return new LcTalk(this.journal, name);
+    }
+
+    @Override
+    public boolean exists(final String name) {
+        return this.journal.row(name) != null;
+    }
+
+    @Override
+    public Talk get(final String name) {
+        if (!this.exists(name)) {
+            throw new IllegalArgumentException(
+                String.format("Talk \"%s\" not found", name)
+            );
+        }
+        return new LcTalk(this.journal, name);
+    }
+
+    @Override
+    public void delete(final String name) {
+        try {
+            this.journal.delete(name);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void create(final String repo, final String name)
+        throws IOException {
+        this.journal.create(
+            repo, name,
+            number -> String.format(
+                "<talk name='%s' number='%d'/>", name, number
+            )
+        );
+    }
+
+    @Override
+    public Iterable<Talk> active() {
+        return new Mapped<>(
+            name -> new LcTalk(this.journal, name),
+            this.journal.active()
+        );
+    }
+
+    @Override
+    public Iterable<Talk> recent() {
+        return new HeadOf<>(
+            5,
+            new Filtered<>(
+                input -> input.summary().visible(),
+                new Mapped<>(
+                    name -> new LcTalk(this.journal, name),
+                    this.journal.inactive()
+                )
+            )
+        );
+    }
+
+    @Override
+    public Iterable<Talk> siblings(final String repo, final Date since) {
+        return new Mapped<>(
+            name -> new LcTalk(this.journal, name),
+            this.journal.siblings(repo, since.getTime())
+        );
+    }
+
+    @Override
+    public Iterable<XML> archive(final String name) {
+        return Collections.emptyList();
+    }
+
+}
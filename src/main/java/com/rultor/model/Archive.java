@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * Archive of a talk, the same as {@code /talk/archive}.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Archive {
+
+    /**
+     * Logs, the oldest first.
+     */
+    private final List<Log> logs;
+
+    /**
+     * How many logs were spilled out of the talk.
+     */
+    private final long spilled;
+
+    /**
+     * Ctor, of an empty archive.
+     */
+    Archive() {
+        this.logs = Collections.emptyList();
+        this.spilled = 0L;
+    }
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Archive(final Element element) {
+        final Fields fields = new Fields(element);
+        final List<Log> list = new ArrayList<>(0);
+        for (final Element log : fields.children("log")) {
+            list.add(new Log(log));
+        }
+        this.logs = Collections.unmodifiableList(list);
+        this.spilled = fields.attr("spilled").map(Long::parseLong).orElse(0L);
+    }
+
+    /**
+     * Logs, which are still in the talk.
+     * @return Logs, the oldest first
+     */
+    public List<Log> logs() {
+        return this.logs;
+    }
+
+    /**
+     * How many of the oldest logs were spilled out of the talk.
+     * @return Number of logs
+     */
+    public long spilled() {
+        return this.spilled;
+    }
+
+}
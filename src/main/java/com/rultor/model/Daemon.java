@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import com.rultor.Time;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * Daemon of a talk, the same as {@code /talk/daemon}.
+ *
+ * @since 2.0
+ */
+@ToString(of = {"ident", "title", "dir", "code"})
+@EqualsAndHashCode
+public final class Daemon {
+
+    /**
+     * ID.
+     */
+    private final String ident;
+
+    /**
+     * Title.
+     */
+    private final String title;
+
+    /**
+     * Script.
+     */
+    private final String script;
+
+    /**
+     * Directory or NULL.
+     */
+    private final String dir;
+
+    /**
+     * When started, ISO, or NULL.
+     */
+    private final String started;
+
+    /**
+     * When ended, ISO, or NULL.
+     */
+    private final String ended;
+
+    /**
+     * Exit code or NULL.
+     */
+    private final String code;
+
+    /**
+     * Highlights or NULL.
+     */
+    private final String highlights;
+
+    /**
+     * Tail or NULL.
+     */
+    private final String tail;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Daemon(final Element element) {
+        final Fields fields = new Fields(element);
+        this.ident = fields.attr("id").orElse("");
+        this.title = fields.must("title");
+        this.script = fields.must("script");
+        this.dir = fields.text("dir").orElse(null);
+        this.started = fields.text("started").orElse(null);
+        this.ended = fields.text("ended").orElse(null);
+        this.code = fields.text("code").orElse(null);
+        this.highlights = fields.text("highlights").orElse(null);
+        this.tail = fields.text("tail").orElse(null);
+    }
+
+    /**
+     * ID.
+     * @return ID
+     */
+    public String id() {
+        return this.ident;
+    }
+
+    /**
+     * Title.
+     * @return Title
+     */
+    public String title() {
+        return this.title;
+    }
+
+    /**
+     * Script.
+     * @return Script
+     */
+    public String script() {
+        return this.script;
+    }
+
+    /**
+     * Directory on the server.
+     * @return Directory, if it is started
+     */
+    public Optional<String> dir() {
+        return Optional.ofNullable(this.dir);
+    }
+
+    /**
+     * When started.
+     * @return Time, if it is started
+     */
+    public Optional<Time> started() {
+        return Optional.ofNullable(this.started).map(Time::new);
+    }
+
+    /**
+     * When ended.
+     * @return Time, if it is ended
+     */
+    public Optional<Time> ended() {
+        return Optional.ofNullable(this.ended).map(Time::new);
+    }
+
+    /**
+     * Exit code.
+     * @return Code, if it is ended
+     */
+    public Optional<Integer> code() {
+        return Optional.ofNullable(this.code).map(Integer::parseInt);
+    }
+
+    /**
+     * Highlights of the output.
+     * @return Highlights, if there are some
+     */
+    public Optional<String> highlights() {
+        return Optional.ofNullable(this.highlights);
+    }
+
+    /**
+     * Tail of the output.
+     * @return Tail, if it is ended
+     */
+    public Optional<String> tail() {
+        return Optional.ofNullable(this.tail);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * EC2 instance of a talk, the same as {@code /talk/ec2}.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Ec2 {
+
+    /**
+     * Instance ID or NULL.
+     */
+    private final String instance;
+
+    /**
+     * Host or NULL.
+     */
+    private final String host;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Ec2(final Element element) {
+        final Fields fields = new Fields(element);
+        this.instance = fields.text("instance").orElse(null);
+        this.host = fields.text("host").orElse(null);
+    }
+
+    /**
+     * Instance ID, like "i-1234".
+     * @return ID, if the instance is running
+     */
+    public Optional<String> instance() {
+        return Optional.ofNullable(this.instance);
+    }
+
+    /**
+     * Host name or IP address.
+     * @return Host, if it is known
+     */
+    public Optional<String> host() {
+        return Optional.ofNullable(this.host);
+    }
+
+}
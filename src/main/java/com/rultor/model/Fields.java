@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.ToString;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Attributes and children of an element, read from DOM in one pass.
+ *
+ * @since 2.0
+ */
+@ToString(of = {"attrs", "texts"})
+final class Fields {
+
+    /**
+     * Attributes, by names.
+     */
+    private final Map<String, String> attrs;
+
+    /**
+     * Texts of child elements, by their names, the first one of each.
+     */
+    private final Map<String, String> texts;
+
+    /**
+     * Child elements, in the document order.
+     */
+    private final List<Element> kids;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Fields(final Element element) {
+        final Map<String, String> attributes = new HashMap<>(0);
+        final NamedNodeMap map = element.getAttributes();
+        for (int idx = 0; idx < map.getLength(); ++idx) {
+            final Node attr = map.item(idx);
+            attributes.put(attr.getNodeName(), attr.getNodeValue());
+        }
+        final Map<String, String> children = new HashMap<>(0);
+        final List<Element> elements = new ArrayList<>(0);
+        final NodeList nodes = element.getChildNodes();
+        for (int idx = 0; idx < nodes.getLength(); ++idx) {
+            final Node node = nodes.item(idx);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                elements.add((Element) node);
+                children.putIfAbsent(node.getNodeName(), node.getTextContent());
+            }
+        }
+        this.attrs = Collections.unmodifiableMap(attributes);
+        this.texts = Collections.unmodifiableMap(children);
+        this.kids = Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Attribute.
+     * @param name Name of it
+     * @return Value, if it is present
+     */
+    public Optional<String> attr(final String name) {
+        return Optional.ofNullable(this.attrs.get(name));
+    }
+
+    /**
+     * Text of a child element.
+     * @param name Name of it
+     * @return Text, if the element is present
+     */
+    public Optional<String> text(final String name) {
+        return Optional.ofNullable(this.texts.get(name));
+    }
+
+    /**
+     * Required text of a child element.
+     * @param name Name of it
+     * @return Text
+     */
+    public String must(final String name) {
+        return this.text(name).orElseThrow(
+            () -> new IllegalArgumentException(
+                String.format("There is no <%s> in the talk", name)
+            )
+        );
+    }
+
+    /**
+     * Child elements with the name.
+     * @param name Name of them
+     * @return Elements, in the document order
+     */
+    public List<Element> children(final String name) {
+        final List<Element> found = new ArrayList<>(this.kids.size());
+        for (final Element kid : this.kids) {
+            if (kid.getNodeName().equals(name)) {
+                found.add(kid);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The first child element with the name.
+     * @param name Name of it
+     * @return Element, if it is present
+     */
+    public Optional<Element> child(final String name) {
+        final List<Element> found = this.children(name);
+        final Optional<Element> child;
+        if (found.isEmpty()) {
+            child = Optional.empty();
+        } else {
+            child = Optional.of(found.get(0));
+        }
+        return child;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * Log in the archive, the same as {@code /talk/archive/log}.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Log {
+
+    /**
+     * ID.
+     */
+    private final String ident;
+
+    /**
+     * Title.
+     */
+    private final String title;
+
+    /**
+     * URI.
+     */
+    private final String uri;
+
+    /**
+     * Index or NULL.
+     */
+    private final String index;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Log(final Element element) {
+        this.ident = element.getAttribute("id");
+        this.title = element.getAttribute("title");
+        this.uri = element.getTextContent();
+        if (element.hasAttribute("index")) {
+            this.index = element.getAttribute("index");
+        } else {
+            this.index = null;
+        }
+    }
+
+    /**
+     * ID, the same as the ID of the daemon.
+     * @return ID
+     */
+    public String id() {
+        return this.ident;
+    }
+
+    /**
+     * Title.
+     * @return Title
+     */
+    public String title() {
+        return this.title;
+    }
+
+    /**
+     * URI of the log, like "s3://...".
+     * @return URI
+     */
+    public String uri() {
+        return this.uri;
+    }
+
+    /**
+     * Index of the request, which made the log.
+     * @return Index, if it is known
+     */
+    public Optional<Long> index() {
+        return Optional.ofNullable(this.index).map(Long::parseLong);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Request of a talk, the same as {@code /talk/request}.
+ *
+ * @since 2.0
+ */
+@ToString(of = {"ident", "type", "success"})
+@EqualsAndHashCode
+public final class Request {
+
+    /**
+     * ID.
+     */
+    private final String ident;
+
+    /**
+     * Index or NULL.
+     */
+    private final String index;
+
+    /**
+     * Type.
+     */
+    private final String type;
+
+    /**
+     * Author or NULL.
+     */
+    private final String author;
+
+    /**
+     * Arguments, by names.
+     */
+    private final Map<String, String> args;
+
+    /**
+     * Success or NULL.
+     */
+    private final String success;
+
+    /**
+     * Duration, in milliseconds, or NULL.
+     */
+    private final String msec;
+
+    /**
+     * Highlights or NULL.
+     */
+    private final String highlights;
+
+    /**
+     * Tail or NULL.
+     */
+    private final String tail;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Request(final Element element) {
+        final Fields fields = new Fields(element);
+        this.ident = fields.attr("id").orElse("");
+        this.index = fields.attr("index").orElse(null);
+        this.type = fields.must("type");
+        this.author = fields.text("author").orElse(null);
+        final Map<String, String> map = new LinkedHashMap<>(0);
+        for (final Element list : fields.children("args")) {
+            for (final Element arg : new Fields(list).children("arg")) {
+                map.put(arg.getAttribute("name"), arg.getTextContent());
+            }
+        }
+        this.args = Collections.unmodifiableMap(map);
+        this.success = fields.text("success").orElse(null);
+        this.msec = fields.text("msec").orElse(null);
+        this.highlights = fields.text("highlights").orElse(null);
+        this.tail = fields.text("tail").orElse(null);
+    }
+
+    /**
+     * ID.
+     * @return ID
+     */
+    public String id() {
+        return this.ident;
+    }
+
+    /**
+     * Index of the request in the talk.
+     * @return Index, if it is known
+     */
+    public Optional<Long> index() {
+        return Optional.ofNullable(this.index).map(Long::parseLong);
+    }
+
+    /**
+     * Type, like "merge" or "deploy".
+     * @return Type
+     */
+    public String type() {
+        return this.type;
+    }
+
+    /**
+     * Author.
+     * @return Author, if known
+     */
+    public Optional<String> author() {
+        return Optional.ofNullable(this.author);
+    }
+
+    /**
+     * Arguments.
+     * @return Values by names
+     */
+    public Map<String, String> args() {
+        return this.args;
+    }
+
+    /**
+     * Was it successful?
+     * @return TRUE or FALSE, if it is finished
+     */
+    public Optional<Boolean> success() {
+        return Optional.ofNullable(this.success).map(Boolean::parseBoolean);
+    }
+
+    /**
+     * How long it took.
+     * @return Milliseconds, if it is finished
+     */
+    public Optional<Long> msec() {
+        return Optional.ofNullable(this.msec).map(Long::parseLong);
+    }
+
+    /**
+     * Highlights of the output.
+     * @return Highlights, if there are some
+     */
+    public Optional<String> highlights() {
+        return Optional.ofNullable(this.highlights);
+    }
+
+    /**
+     * Tail of the output.
+     * @return Tail, if there is one
+     */
+    public Optional<String> tail() {
+        return Optional.ofNullable(this.tail);
+    }
+
+    /**
+     * Finish it.
+     * @param millis How long it took
+     * @param good Was it successful?
+     * @param lights Highlights of the output, if any
+     * @param last Tail of the output, if any
+     * @return Directives
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Iterable<Directive> finish(final long millis, final boolean good,
+        final Optional<String> lights, final Optional<String> last) {
+        final Directives dirs = new Directives().xpath("/talk/request")
+            .add("msec").set(Long.toString(millis)).up()
+            .add("success").set(Boolean.toString(good)).up();
+        lights.ifPresent(text -> dirs.add("highlights").set(text).up());
+        last.ifPresent(text -> dirs.add("tail").set(text).up());
+        return dirs;
+    }
+
+    /**
+     * Remove it, when it is finished and reported.
+     * @return Directives
+     */
+    public Iterable<Directive> remove() {
+        return new Directives()
+            .xpath("/talk/request[success]")
+            .strict(1).remove();
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * Shell of a talk, the same as {@code /talk/shell}.
+ *
+ * @since 2.0
+ */
+@ToString(of = {"ident", "host", "port", "login"})
+@EqualsAndHashCode
+public final class Shell {
+
+    /**
+     * ID.
+     */
+    private final String ident;
+
+    /**
+     * Host.
+     */
+    private final String host;
+
+    /**
+     * Port.
+     */
+    private final int port;
+
+    /**
+     * Login.
+     */
+    private final String login;
+
+    /**
+     * Private key.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Shell(final Element element) {
+        final Fields fields = new Fields(element);
+        this.ident = fields.attr("id").orElse("");
+        this.host = fields.must("host");
+        this.port = Integer.parseInt(fields.must("port"));
+        this.login = fields.must("login");
+        this.key = fields.must("key");
+    }
+
+    /**
+     * ID.
+     * @return ID
+     */
+    public String id() {
+        return this.ident;
+    }
+
+    /**
+     * Host name or IP address.
+     * @return Host
+     */
+    public String host() {
+        return this.host;
+    }
+
+    /**
+     * SSH port.
+     * @return Port
+     */
+    public int port() {
+        return this.port;
+    }
+
+    /**
+     * User name.
+     * @return Login
+     */
+    public String login() {
+        return this.login;
+    }
+
+    /**
+     * Private SSH key.
+     * @return Key
+     */
+    public String key() {
+        return this.key;
+    }
+
+}
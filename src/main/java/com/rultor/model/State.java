@@ -0,0 +1,215 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import com.jcabi.xml.XML;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Typed state of a talk, parsed from its XML once.
+ *
+ * <p>Agents, which only need to know what is in the talk, read it
+ * here, instead of evaluating XPath expressions against the DOM
+ * one by one. Changes still go back to the talk as Xembly directives,
+ * which are validated against the schema when the talk is saved.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+@SuppressWarnings("PMD.TooManyMethods")
+public final class State {
+
+    /**
+     * Name.
+     */
+    private final String name;
+
+    /**
+     * Number.
+     */
+    private final long number;
+
+    /**
+     * Later?
+     */
+    private final boolean later;
+
+    /**
+     * Public?
+     */
+    private final boolean visible;
+
+    /**
+     * Daemon or NULL.
+     */
+    private final Daemon daemon;
+
+    /**
+     * Request or NULL.
+     */
+    private final Request request;
+
+    /**
+     * Wire or NULL.
+     */
+    private final Wire wire;
+
+    /**
+     * Shell or NULL.
+     */
+    private final Shell shell;
+
+    /**
+     * EC2 or NULL.
+     */
+    private final Ec2 ec2;
+
+    /**
+     * Archive.
+     */
+    private final Archive archive;
+
+    /**
+     * Ctor.
+     *
+     * <p>The DOM of the XML is read as is, without a copy, since
+     * the state only reads it, once, right here.</p>
+     *
+     * @param xml XML of the talk
+     */
+    public State(final XML xml) {
+        this(State.root(xml.inner()));
+    }
+
+    /**
+     * Ctor.
+     * @param talk The element {@code /talk}
+     */
+    private State(final Element talk) {
+        final Fields fields = new Fields(talk);
+        this.name = fields.attr("name").orElseThrow(
+            () -> new IllegalArgumentException("The talk has no name")
+        );
+        this.number = fields.attr("number").map(Long::parseLong).orElse(0L);
+        this.later = fields.attr("later").map(Boolean::parseBoolean)
+            .orElse(false);
+        this.visible = fields.attr("public").map(Boolean::parseBoolean)
+            .orElse(true);
+        this.daemon = fields.child("daemon").map(Daemon::new).orElse(null);
+        this.request = fields.child("request").map(Request::new).orElse(null);
+        this.wire = fields.child("wire").map(Wire::new).orElse(null);
+        this.shell = fields.child("shell").map(Shell::new).orElse(null);
+        this.ec2 = fields.child("ec2").map(Ec2::new).orElse(null);
+        this.archive = fields.child("archive").map(Archive::new)
+            .orElseGet(Archive::new);
+    }
+
+    /**
+     * Name of the talk.
+     * @return Name
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Number of the talk.
+     * @return Number
+     */
+    public long number() {
+        return this.number;
+    }
+
+    /**
+     * Is it waiting for something to happen later?
+     * @return TRUE if it is
+     */
+    public boolean later() {
+        return this.later;
+    }
+
+    /**
+     * Is it visible to everybody?
+     * @return TRUE if it is
+     */
+    public boolean visible() {
+        return this.visible;
+    }
+
+    /**
+     * Daemon.
+     * @return Daemon, if there is one
+     */
+    public Optional<Daemon> daemon() {
+        return Optional.ofNullable(this.daemon);
+    }
+
+    /**
+     * Request.
+     * @return Request, if there is one
+     */
+    public Optional<Request> request() {
+        return Optional.ofNullable(this.request);
+    }
+
+    /**
+     * Wire.
+     * @return Wire, if there is one
+     */
+    public Optional<Wire> wire() {
+        return Optional.ofNullable(this.wire);
+    }
+
+    /**
+     * Shell.
+     * @return Shell, if there is one
+     */
+    public Optional<Shell> shell() {
+        return Optional.ofNullable(this.shell);
+    }
+
+    /**
+     * EC2 instance.
+     * @return EC2, if there is one
+     */
+    public Optional<Ec2> ec2() {
+        return Optional.ofNullable(this.ec2);
+    }
+
+    /**
+     * Archive, maybe empty.
+     * @return Archive
+     */
+    public Archive archive() {
+        return this.archive;
+    }
+
+    /**
+     * The element {@code /talk} of the node.
+     * @param node Document or element
+     * @return Element
+     */
+    private static Element root(final Node node) {
+        final Element talk;
+        if (node instanceof Document) {
+            talk = ((Document) node).getDocumentElement();
+        } else {
+            talk = (Element) node;
+        }
+        if (!"talk".equals(talk.getNodeName())) {
+            throw new IllegalArgumentException(
+                String.format("<%s> is not a talk", talk.getNodeName())
+            );
+        }
+        return talk;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import com.rultor.Time;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Element;
+
+/**
+ * Wire of a talk, the same as {@code /talk/wire}.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Wire {
+
+    /**
+     * URI.
+     */
+    private final String href;
+
+    /**
+     * GitHub repository or NULL.
+     */
+    private final String repo;
+
+    /**
+     * GitHub issue number or NULL.
+     */
+    private final String issue;
+
+    /**
+     * GitHub comments seen or NULL.
+     */
+    private final String seen;
+
+    /**
+     * When the last seen comment was created, ISO, or NULL.
+     */
+    private final String since;
+
+    /**
+     * Ctor.
+     * @param element The element
+     */
+    Wire(final Element element) {
+        final Fields fields = new Fields(element);
+        this.href = fields.must("href");
+        this.repo = fields.text("github-repo").orElse(null);
+        this.issue = fields.text("github-issue").orElse(null);
+        this.seen = fields.text("github-seen").orElse(null);
+        this.since = fields.text("github-since").orElse(null);
+    }
+
+    /**
+     * URI of the wire.
+     * @return URI
+     */
+    public String href() {
+        return this.href;
+    }
+
+    /**
+     * GitHub repository, like "yegor256/rultor".
+     * @return Coordinates, if it is a GitHub wire
+     */
+    public Optional<String> repo() {
+        return Optional.ofNullable(this.repo);
+    }
+
+    /**
+     * GitHub issue.
+     * @return Number, if it is a GitHub wire
+     */
+    public Optional<Integer> issue() {
+        return Optional.ofNullable(this.issue).map(Integer::parseInt);
+    }
+
+    /**
+     * The last GitHub comment seen.
+     * @return Number, if any were seen
+     */
+    public Optional<Long> seen() {
+        return Optional.ofNullable(this.seen).map(Long::parseLong);
+    }
+
+    /**
+     * When the last GitHub comment seen was created.
+     * @return Time, if it is known
+     */
+    public Optional<Time> since() {
+        return Optional.ofNullable(this.since).map(Time::new);
+    }
+
+}
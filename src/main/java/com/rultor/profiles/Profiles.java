@@ -12,6 +12,7 @@ import com.jcabi.github.RtGithub;
 import com.jcabi.github.wire.RetryCarefulWire;
 import com.jcabi.xml.XML;
 import com.rultor.Env;
+import com.rultor.agents.github.CachingWire;
 import com.rultor.agents.github.TalkIssues;
 import com.rultor.agents.github.qtn.DefaultBranch;
 import com.rultor.spi.Profile;
@@ -177,7 +178,7 @@ public final class Profiles {
             ).entry().through(
                 RetryCarefulWire.class,
                 100
-            )
+            ).through(CachingWire.class)
         );
     }
 
@@ -31,6 +31,14 @@ public interface Agent {
     /**
      * Iterative.
      *
+     * <p>All agents run against one {@link Snapshot} of the talk, which
+     * is read only once. The changes of all agents are written back
+     * in one go, when the chain is over, even if one of the agents
+     * fails, so that what the others did outside is recorded. An agent,
+     * which must persist its changes before it does something outside,
+     * like {@link com.rultor.agents.daemons.StartsDaemon}, calls
+     * {@link Snapshot#flush()} on its own.</p>
+     *
      * @since 1.0
      */
     @Immutable
@@ -60,10 +68,15 @@ public interface Agent {
 
         @Override
         public void execute(final Talk talk) throws IOException {
+            final Snapshot snapshot = Snapshot.of(talk);
             int total = 0;
-            for (final Agent agent : this.children) {
-                agent.execute(talk);
-                ++total;
+            try {
+                for (final Agent agent : this.children) {
+                    agent.execute(snapshot);
+                    ++total;
+                }
+            } finally {
+                snapshot.flush();
             }
             Logger.debug(this, "Executed %d agent(s)", total);
         }
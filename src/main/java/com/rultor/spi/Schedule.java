@@ -0,0 +1,265 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+import org.cactoos.text.Joined;
+
+/**
+ * Schedule of talks, ordered by the time they are due.
+ *
+ * <p>A talk is due right away when it is new to the schedule, when it
+ * was updated since the previous cycle, or when it is woken up
+ * explicitly. Otherwise, the time it is due depends on its state
+ * after it was processed last time: a talk with some work pending is
+ * due right away, a talk with a running daemon is due after a delay,
+ * which grows with every check, and an idle talk waits for an event.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "index")
+public final class Schedule {
+
+    /**
+     * The daemon is running.
+     */
+    private static final String RUNNING =
+        "/talk/daemon[started and not(ended)]";
+
+    /**
+     * Nothing to do, until something happens in GitHub.
+     */
+    private static final String IDLE = new Joined(
+        "",
+        "/talk[@later='false' and not(request) and not(daemon)",
+        " and not(shell)]"
+    ).toString();
+
+    /**
+     * First delay for a running daemon, in milliseconds.
+     */
+    private final transient long backoff;
+
+    /**
+     * Maximum delay for a running daemon, in milliseconds.
+     */
+    private final transient long ceiling;
+
+    /**
+     * Delay for an idle talk, in milliseconds.
+     */
+    private final transient long idle;
+
+    /**
+     * Talks, ordered by the time they are due.
+     */
+    private final transient PriorityQueue<Schedule.Due> queue;
+
+    /**
+     * Talks, by their names.
+     */
+    private final transient Map<String, Schedule.Due> index;
+
+    /**
+     * Something was woken up since the last cycle.
+     */
+    private transient boolean alarm;
+
+    /**
+     * Ctor.
+     */
+    public Schedule() {
+        this(
+            TimeUnit.MINUTES.toMillis(1L),
+            TimeUnit.MINUTES.toMillis(5L),
+            TimeUnit.MINUTES.toMillis(30L)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param first First delay for a running daemon, in milliseconds
+     * @param max Maximum delay for a running daemon, in milliseconds
+     * @param quiet Delay for an idle talk, in milliseconds
+     */
+    public Schedule(final long first, final long max, final long quiet) {
+        this.backoff = first;
+        this.ceiling = max;
+        this.idle = quiet;
+        this.queue = new PriorityQueue<>(
+            Comparator.comparingLong((Schedule.Due due) -> due.time)
+        );
+        this.index = new HashMap<>(0);
+    }
+
+    /**
+     * Take the talks that are due now, out of all active ones.
+     *
+     * <p>Talks that are not active anymore are forgotten. Each talk
+     * returned must be reported back through {@link #done(Talk)}, when
+     * processed, otherwise it will be due again only after the maximum
+     * daemon delay.</p>
+     *
+     * @param active All active talks
+     * @return Talks due now, the most overdue first
+     * @throws IOException If fails
+     */
+    public synchronized Collection<Talk> due(final Iterable<Talk> active)
+        throws IOException {
+        final long now = System.currentTimeMillis();
+        this.alarm = false;
+        final Map<String, Talk> talks = new HashMap<>(0);
+        for (final Talk talk : active) {
+            final String name = talk.name();
+            final long updated = talk.updated().getTime();
+            talks.put(name, talk);
+            final Schedule.Due before = this.index.get(name);
+            if (before == null || before.updated != updated) {
+                this.put(new Schedule.Due(name, now, updated, 0));
+            }
+        }
+        this.index.keySet().retainAll(talks.keySet());
+        this.queue.removeIf(due -> !talks.containsKey(due.name));
+        final Collection<Talk> due = new LinkedList<>();
+        while (!this.queue.isEmpty() && this.queue.peek().time <= now) {
+            final Schedule.Due head = this.queue.poll();
+            due.add(talks.get(head.name));
+            this.put(
+                new Schedule.Due(
+                    head.name, now + this.ceiling, head.updated, head.attempt
+                )
+            );
+        }
+        return due;
+    }
+
+    /**
+     * The talk was processed, decide when it is due next time.
+     * @param talk The talk
+     * @throws IOException If fails
+     */
+    public void done(final Talk talk) throws IOException {
+        final String name = talk.name();
+        final XML xml = talk.read();
+        synchronized (this) {
+            final Schedule.Due before = this.index.get(name);
+            if (before != null) {
+                int attempt = 0;
+                final long delay;
+                if (!xml.nodes(Schedule.RUNNING).isEmpty()) {
+                    attempt = before.attempt + 1;
+                    delay = Math.min(
+                        // @checkstyle MagicNumber (1 line)
+                        this.backoff << Math.min(attempt - 1, 16),
+                        this.ceiling
+                    );
+                } else if (!xml.nodes(Schedule.IDLE).isEmpty()) {
+                    delay = this.idle;
+                } else {
+                    delay = 0L;
+                }
+                this.put(
+                    new Schedule.Due(
+                        name, System.currentTimeMillis() + delay,
+                        before.updated, attempt
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Make the talk due right now, because something happened to it.
+     *
+     * <p>A talk that is not in the schedule yet is due right away anyway,
+     * as soon as it is active. Either way, the schedule is alarmed, see
+     * {@link #alarmed()}.</p>
+     *
+     * @param name Name of the talk
+     */
+    public synchronized void wake(final String name) {
+        final Schedule.Due before = this.index.get(name);
+        if (before != null) {
+            this.put(new Schedule.Due(name, 0L, before.updated, 0));
+        }
+        this.alarm = true;
+    }
+
+    /**
+     * Was any talk woken up since the last call of {@link #due(Iterable)}?
+     * @return TRUE if the next cycle should not wait
+     */
+    public synchronized boolean alarmed() {
+        return this.alarm;
+    }
+
+    /**
+     * Put the talk into the queue, replacing what was there before.
+     * @param due The talk and its time
+     */
+    private void put(final Schedule.Due due) {
+        final Schedule.Due before = this.index.put(due.name, due);
+        if (before != null) {
+            this.queue.remove(before);
+        }
+        this.queue.add(due);
+    }
+
+    /**
+     * A talk in the schedule.
+     *
+     * @since 2.0
+     */
+    @ToString
+    private static final class Due {
+        /**
+         * Name of the talk.
+         */
+        private final String name;
+
+        /**
+         * When it is due, in milliseconds.
+         */
+        private final long time;
+
+        /**
+         * When it was updated, as seen in the last cycle.
+         */
+        private final long updated;
+
+        /**
+         * How many times in a row the running daemon was checked.
+         */
+        private final int attempt;
+
+        /**
+         * Ctor.
+         * @param talk Name of the talk
+         * @param when When it is due
+         * @param upd When it was updated
+         * @param atmpt How many times the daemon was checked
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Due(final String talk, final long when, final long upd,
+            final int atmpt) {
+            this.name = talk;
+            this.time = when;
+            this.updated = upd;
+            this.attempt = atmpt;
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.StrictXML;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.rultor.model.State;
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.w3c.dom.Node;
+import org.xembly.Directive;
+import org.xembly.Directives;
+import org.xembly.ImpossibleModificationException;
+import org.xembly.Xembler;
+
+/**
+ * Snapshot of a talk, which is read once and modified in memory.
+ *
+ * <p>The chain of agents in {@link Agent.Iterative} runs against one
+ * snapshot: the XML is read from the origin once and every XPath
+ * precondition of every agent is evaluated against it at most once.</p>
+ *
+ * <p>Modifications are applied to the XML in memory and validated
+ * against the schema right away, so that the agents see their own
+ * changes and a broken set of directives fails the agent that made it,
+ * not the write of the entire chain. The directives are collected and
+ * written to the origin in one go, by {@link #flush()}, which
+ * {@link Agent.Iterative} calls once, when the chain is over. An agent
+ * that must persist its changes before doing something outside, calls
+ * {@link #flush()} on its own.
+ * Each set of directives must start with an absolute XPath, since they
+ * are all applied to the origin one after another.</p>
+ *
+ * <p>The class is NOT thread-safe, it is supposed to be used by one
+ * chain of agents, in one thread.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+public final class Snapshot implements Talk {
+
+    /**
+     * Origin talk.
+     */
+    private final transient Talk origin;
+
+    /**
+     * Results of XPath preconditions, evaluated against the XML.
+     */
+    private final transient Map<String, Boolean> conditions;
+
+    /**
+     * Directives applied in memory, but not yet written to the origin.
+     */
+    private transient Directives pending;
+
+    /**
+     * The XML, if it was already read.
+     */
+    private transient XML xml;
+
+    /**
+     * Typed state, if it was already parsed from the XML.
+     */
+    private transient State typed;
+
+    /**
+     * Ctor.
+     * @param talk Origin talk
+     */
+    public Snapshot(final Talk talk) {
+        this.origin = talk;
+        this.conditions = new HashMap<>(0);
+        this.pending = new Directives();
+    }
+
+    /**
+     * Make a snapshot of the talk, unless it is a snapshot already.
+     * @param talk The talk
+     * @return Snapshot
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Snapshot of(final Talk talk) {
+        final Snapshot snapshot;
+        if (talk instanceof Snapshot) {
+            snapshot = (Snapshot) talk;
+        } else {
+            snapshot = new Snapshot(talk);
+        }
+        return snapshot;
+    }
+
+    /**
+     * The XPath precondition holds, i.e. it finds something in the XML?
+     * @param xpath The XPath
+     * @return TRUE if it finds at least one node
+     * @throws IOException If fails
+     */
+    public boolean holds(final String xpath) throws IOException {
+        final XML doc = this.read();
+        Boolean found = this.conditions.get(xpath);
+        if (found == null) {
+            found = new Xpath(xpath).holds(doc);
+            this.conditions.put(xpath, found);
+        }
+        return found;
+    }
+
+    /**
+     * Typed state of the talk, parsed from the XML once, until
+     * the next modification.
+     * @return State
+     * @throws IOException If fails
+     */
+    public State state() throws IOException {
+        if (this.typed == null) {
+            this.typed = new State(this.read());
+        }
+        return this.typed;
+    }
+
+    @Override
+    public Long number() throws IOException {
+        return this.origin.number();
+    }
+
+    @Override
+    public String name() throws IOException {
+        return this.origin.name();
+    }
+
+    @Override
+    public Date updated() throws IOException {
+        return this.origin.updated();
+    }
+
+    @Override
+    public XML read() throws IOException {
+        if (this.xml == null) {
+            this.xml = this.origin.read();
+        }
+        return this.xml;
+    }
+
+    @Override
+    public Summary summary() throws IOException {
+        return new Summary(this.read());
+    }
+
+    @Override
+    public void modify(final Iterable<Directive> dirs) throws IOException {
+        if (dirs.iterator().hasNext()) {
+            final XML before = this.read();
+            final Node node = before.inner().cloneNode(true);
+            try {
+                new Xembler(dirs).apply(node);
+            } catch (final ImpossibleModificationException ex) {
+                throw new IllegalStateException(
+                    String.format(
+                        "failed to apply %s to %s", dirs, before
+                    ),
+                    ex
+                );
+            }
+            this.xml = new StrictXML(new XMLDocument(node), Talk.SCHEMA);
+            this.conditions.clear();
+            this.typed = null;
+            this.pending.append(dirs);
+        }
+    }
+
+    @Override
+    public void active(final boolean yes) throws IOException {
+        this.origin.active(yes);
+    }
+
+    /**
+     * Write all modifications made so far to the origin talk.
+     * @throws IOException If fails
+     */
+    public void flush() throws IOException {
+        if (this.pending.iterator().hasNext()) {
+            final Directives dirs = this.pending;
+            this.pending = new Directives();
+            this.origin.modify(dirs);
+        }
+    }
+
+}
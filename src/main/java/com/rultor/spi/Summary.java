@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XML;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Summary of a talk, which is enough to list it, without its XML.
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Summary {
+
+    /**
+     * Is it public?
+     */
+    private final transient boolean pub;
+
+    /**
+     * URL of the wire or empty.
+     */
+    private final transient String link;
+
+    /**
+     * Title of the latest log or empty.
+     */
+    private final transient String label;
+
+    /**
+     * Titles of logs in {@code /talk/archive}, by their IDs, the oldest
+     * first.
+     */
+    private final transient Map<String, String> titles;
+
+    /**
+     * How many logs were moved out of the talk.
+     */
+    private final transient long moved;
+
+    /**
+     * Ctor.
+     * @param xml XML of the talk
+     */
+    public Summary(final XML xml) {
+        this(
+            !xml.nodes("/talk[@public='true']").isEmpty(),
+            Summary.first(xml.xpath("/talk/wire/href/text()")),
+            Summary.first(xml.xpath("/talk/archive/log[last()]/@title")),
+            Summary.logs(xml),
+            Long.parseLong(
+                Summary.first(xml.xpath("/talk/archive/@spilled"), "0")
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param visible Is it public?
+     * @param href URL of the wire or empty
+     * @param title Title of the latest log or empty
+     * @param logs Titles of logs by their IDs, the oldest first
+     * @param spilled How many logs were moved out of the talk
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Summary(final boolean visible, final String href,
+        final String title, final Map<String, String> logs,
+        final long spilled) {
+        this.pub = visible;
+        this.link = href;
+        this.label = title;
+        this.titles = Collections.unmodifiableMap(new LinkedHashMap<>(logs));
+        this.moved = spilled;
+    }
+
+    /**
+     * Is it public?
+     * @return TRUE if it can be shown to everybody
+     */
+    public boolean visible() {
+        return this.pub;
+    }
+
+    /**
+     * URL of the wire.
+     * @return URL or empty string if there is no wire
+     */
+    public String href() {
+        return this.link;
+    }
+
+    /**
+     * Title of the latest log.
+     * @return Title or empty string if there are no logs
+     */
+    public String title() {
+        return this.label;
+    }
+
+    /**
+     * Logs in {@code /talk/archive}.
+     * @return Titles by IDs, the oldest first
+     */
+    public Map<String, String> logs() {
+        return this.titles;
+    }
+
+    /**
+     * How many logs were moved out of the talk, to
+     * {@link Talks#archive(String)}.
+     * @return Number of them
+     */
+    public long spilled() {
+        return this.moved;
+    }
+
+    /**
+     * Titles of logs in the XML.
+     * @param xml XML of the talk
+     * @return Titles by IDs
+     */
+    private static Map<String, String> logs(final XML xml) {
+        final Map<String, String> logs = new LinkedHashMap<>(0);
+        for (final XML log : xml.nodes("/talk/archive/log")) {
+            logs.put(log.xpath("@id").get(0), log.xpath("@title").get(0));
+        }
+        return logs;
+    }
+
+    /**
+     * First item or empty string.
+     * @param items Items
+     * @return The first one
+     */
+    private static String first(final List<String> items) {
+        return Summary.first(items, "");
+    }
+
+    /**
+     * First item or default.
+     * @param items Items
+     * @param def Default
+     * @return The first one
+     */
+    private static String first(final List<String> items, final String def) {
+        final String first;
+        if (items.isEmpty()) {
+            first = def;
+        } else {
+            first = items.get(0);
+        }
+        return first;
+    }
+
+}
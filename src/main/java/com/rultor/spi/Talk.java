@@ -61,10 +61,21 @@ public interface Talk {
                 Objects.requireNonNull(
                     Talk.class.getResource("upgrade/002-public-attribute.xsl")
                 )
+            ),
+            XSLDocument.make(
+                Objects.requireNonNull(
+                    Talk.class.getResource("upgrade/003-version.xsl")
+                )
             )
         )
     );
 
+    /**
+     * Current version of the document, which is stamped into it by the
+     * last XSL of {@link #UPGRADE} (the number of this XSL).
+     */
+    String VERSION = "3";
+
     /**
      * Its unique number.
      * @return Its number
@@ -94,6 +105,14 @@ public interface Talk {
      */
     XML read() throws IOException;
 
+    /**
+     * Read its summary, which may be cheaper than reading its content.
+     * @return Summary
+     * @throws IOException If fails
+     * @since 2.0
+     */
+    Summary summary() throws IOException;
+
     /**
      * Modify its content.
      * @param dirs Directives
@@ -181,13 +200,18 @@ public interface Talk {
 
         @Override
         public XML read() throws IOException {
-            return Talk.UPGRADE.transform(
+            return new Upgraded(
                 new XMLDocument(
                     FileUtils.readFileToString(
                         new File(this.path), StandardCharsets.UTF_8
                     )
                 )
-            );
+            ).get();
+        }
+
+        @Override
+        public Summary summary() throws IOException {
+            return new Summary(this.read());
         }
 
         @Override
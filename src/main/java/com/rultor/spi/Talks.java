@@ -7,12 +7,14 @@ package com.rultor.spi;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.StrictXML;
+import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import org.apache.commons.io.FileUtils;
@@ -94,6 +96,15 @@ public interface Talks {
      */
     Iterable<Talk> siblings(String repo, Date since);
 
+    /**
+     * Get logs of the talk, which were moved out of its XML, since
+     * there were too many of them (see {@code /talk/archive/@spilled}).
+     * @param name The name of the talk
+     * @return Logs, the newest first, the same as {@code /talk/archive/log}
+     * @since 2.0
+     */
+    Iterable<XML> archive(String name);
+
     /**
      * In directory.
      * @since 1.0
@@ -215,5 +226,10 @@ public interface Talks {
         public Iterable<Talk> siblings(final String repo, final Date since) {
             return this.active();
         }
+
+        @Override
+        public Iterable<XML> archive(final String name) {
+            return Collections.emptyList();
+        }
     }
 }
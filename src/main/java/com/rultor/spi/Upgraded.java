@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Talk document, upgraded to the current version.
+ *
+ * <p>The {@link Talk#UPGRADE} chain of XSL is applied only if the
+ * document doesn't have the current {@link Talk#VERSION} yet. The
+ * upgraded document gets the current version when it is modified and
+ * saved for the first time, after which it is not upgraded anymore.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class Upgraded {
+
+    /**
+     * XPath to check the version.
+     */
+    private static final String CURRENT = String.format(
+        "/talk[@version='%s']", Talk.VERSION
+    );
+
+    /**
+     * Original document.
+     */
+    private final transient XML origin;
+
+    /**
+     * Ctor.
+     * @param xml Original document
+     */
+    public Upgraded(final XML xml) {
+        this.origin = xml;
+    }
+
+    /**
+     * Get upgraded document.
+     * @return XML
+     */
+    public XML get() {
+        final XML xml;
+        if (this.origin.nodes(Upgraded.CURRENT).isEmpty()) {
+            xml = Talk.UPGRADE.transform(this.origin);
+        } else {
+            xml = this.origin;
+        }
+        return xml;
+    }
+
+}
@@ -0,0 +1,330 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XML;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathExecutable;
+import net.sf.saxon.s9api.XPathSelector;
+import net.sf.saxon.s9api.XdmItem;
+import net.sf.saxon.s9api.XdmValue;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * XPath expression, compiled only once.
+ *
+ * <p>When the expression is used for the first time, it is compiled
+ * by the XPath 1.0 engine of the JDK. If it is valid there, it is
+ * evaluated by this engine, the same way as by {@link XML#nodes(String)}
+ * and {@link XML#xpath(String)}, but without compiling it again. Since
+ * compiled expressions of the JDK are not thread-safe, every thread
+ * compiles its own copy, once. Otherwise it needs XPath 2.0, like the
+ * conditions with {@code current-dateTime()}, and it is compiled by
+ * Saxon, which is thread-safe. Compiled expressions are kept in a
+ * registry, shared by all instances of this class, by their texts.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "text")
+@EqualsAndHashCode(of = "text")
+public final class Xpath {
+
+    /**
+     * Saxon.
+     */
+    private static final Processor SAXON = new Processor(false);
+
+    /**
+     * Compiled expressions, by their texts.
+     */
+    private static final Map<String, Xpath.Compiled> COMPILED =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * The text of the expression.
+     */
+    private final transient String text;
+
+    /**
+     * Ctor.
+     * @param expr The text of the expression
+     */
+    public Xpath(final String expr) {
+        this.text = expr;
+    }
+
+    /**
+     * Compile it now, if it is not compiled yet.
+     * @return This
+     */
+    public Xpath compiled() {
+        this.executable();
+        return this;
+    }
+
+    /**
+     * It finds something in the XML?
+     * @param xml The XML
+     * @return TRUE if it finds at least one item
+     */
+    public boolean holds(final XML xml) {
+        return this.executable().holds(xml);
+    }
+
+    /**
+     * Values of what it finds in the XML, the same as
+     * {@link XML#xpath(String)}.
+     * @param xml The XML
+     * @return String values of items found
+     */
+    public List<String> values(final XML xml) {
+        return this.executable().values(xml);
+    }
+
+    /**
+     * Compiled expression, from the registry or compiled right now.
+     * @return Compiled expression
+     */
+    private Xpath.Compiled executable() {
+        return Xpath.COMPILED.computeIfAbsent(this.text, Xpath::compile);
+    }
+
+    /**
+     * Compile the expression by the JDK or, if it is not XPath 1.0,
+     * by Saxon.
+     * @param expr The text of the expression
+     * @return Compiled expression
+     */
+    private static Xpath.Compiled compile(final String expr) {
+        Xpath.Compiled compiled;
+        try {
+            Xpath.One.compile(expr);
+            compiled = new Xpath.One(expr);
+        } catch (final XPathExpressionException ignored) {
+            try {
+                compiled = new Xpath.Two(
+                    expr, Xpath.SAXON.newXPathCompiler().compile(expr)
+                );
+            } catch (final SaxonApiException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid XPath \"%s\"", expr), ex
+                );
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiled expression.
+     *
+     * @since 2.0
+     */
+    private interface Compiled {
+        /**
+         * It finds something in the XML?
+         * @param xml The XML
+         * @return TRUE if it finds at least one item
+         */
+        boolean holds(XML xml);
+
+        /**
+         * Values of what it finds in the XML.
+         * @param xml The XML
+         * @return String values of items found
+         */
+        List<String> values(XML xml);
+    }
+
+    /**
+     * XPath 1.0 expression, compiled by the JDK, once per thread.
+     *
+     * @since 2.0
+     */
+    private static final class One implements Xpath.Compiled {
+        /**
+         * The text of the expression.
+         */
+        private final String text;
+
+        /**
+         * Compiled expression of the current thread.
+         */
+        private final ThreadLocal<XPathExpression> local;
+
+        /**
+         * Ctor.
+         * @param expr The text of the expression, valid XPath 1.0
+         */
+        One(final String expr) {
+            this.text = expr;
+            this.local = ThreadLocal.withInitial(
+                () -> {
+                    try {
+                        return Xpath.One.compile(expr);
+                    } catch (final XPathExpressionException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            );
+        }
+
+        @Override
+        public boolean holds(final XML xml) {
+            return this.nodes(xml).getLength() > 0;
+        }
+
+        @Override
+        public List<String> values(final XML xml) {
+            List<String> values;
+            try {
+                final NodeList nodes = (NodeList) this.local.get().evaluate(
+                    xml.inner(), XPathConstants.NODESET
+                );
+                values = new ArrayList<>(nodes.getLength());
+                for (int idx = 0; idx < nodes.getLength(); ++idx) {
+                    final Node node = nodes.item(idx);
+                    final short type = node.getNodeType();
+                    if (type != Node.TEXT_NODE
+                        && type != Node.ATTRIBUTE_NODE
+                        && type != Node.CDATA_SECTION_NODE) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                // @checkstyle LineLength (1 line)
+                                "Only text() nodes, CDATA sections or attributes are retrievable with \"%s\"",
+                                this.text
+                            )
+                        );
+                    }
+                    values.add(node.getNodeValue());
+                }
+            } catch (final XPathExpressionException ex) {
+                try {
+                    values = Collections.singletonList(
+                        (String) this.local.get().evaluate(
+                            xml.inner(), XPathConstants.STRING
+                        )
+                    );
+                } catch (final XPathExpressionException exp) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Failed to evaluate XPath \"%s\"", this.text
+                        ),
+                        exp
+                    );
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Nodes found in the XML.
+         * @param xml The XML
+         * @return Nodes
+         */
+        private NodeList nodes(final XML xml) {
+            try {
+                return (NodeList) this.local.get().evaluate(
+                    xml.inner(), XPathConstants.NODESET
+                );
+            } catch (final XPathExpressionException ex) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Failed to evaluate XPath \"%s\"", this.text
+                    ),
+                    ex
+                );
+            }
+        }
+
+        /**
+         * Compile the expression by the JDK.
+         * @param expr The text of the expression
+         * @return Compiled expression, not thread-safe
+         * @throws XPathExpressionException If it is not XPath 1.0
+         */
+        private static XPathExpression compile(final String expr)
+            throws XPathExpressionException {
+            return XPathFactory.newDefaultInstance().newXPath().compile(expr);
+        }
+    }
+
+    /**
+     * XPath 2.0 expression, compiled by Saxon.
+     *
+     * @since 2.0
+     */
+    private static final class Two implements Xpath.Compiled {
+        /**
+         * The text of the expression.
+         */
+        private final String text;
+
+        /**
+         * Compiled expression.
+         */
+        private final XPathExecutable exec;
+
+        /**
+         * Ctor.
+         * @param expr The text of the expression
+         * @param compiled Compiled expression
+         */
+        Two(final String expr, final XPathExecutable compiled) {
+            this.text = expr;
+            this.exec = compiled;
+        }
+
+        @Override
+        public boolean holds(final XML xml) {
+            return this.evaluate(xml).size() > 0;
+        }
+
+        @Override
+        public List<String> values(final XML xml) {
+            final XdmValue found = this.evaluate(xml);
+            final List<String> values = new ArrayList<>(found.size());
+            for (final XdmItem item : found) {
+                values.add(item.getStringValue());
+            }
+            return values;
+        }
+
+        /**
+         * Evaluate compiled expression against the XML.
+         * @param xml The XML
+         * @return Items found
+         */
+        private XdmValue evaluate(final XML xml) {
+            final XPathSelector selector = this.exec.load();
+            try {
+                selector.setContextItem(
+                    Xpath.SAXON.newDocumentBuilder().wrap(xml.inner())
+                );
+                return selector.evaluate();
+            } catch (final SaxonApiException ex) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Failed to evaluate XPath \"%s\"", this.text
+                    ),
+                    ex
+                );
+            }
+        }
+    }
+
+}
@@ -6,7 +6,9 @@ package com.rultor.web;
 
 import com.rultor.Env;
 import com.rultor.Toggles;
+import com.rultor.cached.Memo;
 import com.rultor.spi.Pulse;
+import com.rultor.spi.Schedule;
 import com.rultor.spi.Talks;
 import java.nio.charset.Charset;
 import org.takes.Take;
@@ -43,7 +45,7 @@ public final class TkApp extends TkWrap {
      */
     public TkApp(final Talks talks, final Pulse pulse,
         final Toggles toggles) {
-        super(TkApp.make(talks, pulse, toggles));
+        this(talks, pulse, toggles, new Memo());
     }
 
     /**
@@ -51,10 +53,49 @@ public final class TkApp extends TkWrap {
      * @param talks Talks
      * @param pulse Pulse
      * @param toggles Toggles
+     * @param memo Memory of cached talks
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TkApp(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final Memo memo) {
+        this(talks, pulse, toggles, memo, new Schedule(), "rultor");
+    }
+
+    /**
+     * Ctor.
+     * @param talks Talks
+     * @param pulse Pulse
+     * @param toggles Toggles
+     * @param memo Memory of cached talks
+     * @param schedule Schedule of the routine, woken up by webhooks
+     * @param login My login in GitHub
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TkApp(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final Memo memo, final Schedule schedule,
+        final String login) {
+        super(
+            TkApp.make(
+                talks, pulse, toggles, memo,
+                new TkGithubHook(
+                    talks, schedule, login, Env.read("Rultor-GithubHook")
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param talks Talks
+     * @param pulse Pulse
+     * @param toggles Toggles
+     * @param memo Memory of cached talks
+     * @param hook GitHub webhook
      * @return Takes
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    private static Take make(final Talks talks,
-        final Pulse pulse, final Toggles toggles) {
+    private static Take make(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final Memo memo, final Take hook) {
         if (!"UTF-8".equals(Charset.defaultCharset().name())) {
             throw new IllegalStateException(
                 String.format(
@@ -70,7 +111,9 @@ public final class TkApp extends TkWrap {
                             new TkAppFallback(
                                 new TkAppAuth(
                                     new TkForward(
-                                        TkApp.regex(talks, pulse, toggles)
+                                        TkApp.regex(
+                                            talks, pulse, toggles, memo, hook
+                                        )
                                     )
                                 )
                             )
@@ -88,14 +131,18 @@ public final class TkApp extends TkWrap {
      * @param talks Talks
      * @param pulse Pulse
      * @param toggles Toggles
+     * @param memo Memory of cached talks
+     * @param hook GitHub webhook
      * @return Takes
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    private static Take regex(final Talks talks,
-        final Pulse pulse, final Toggles toggles) {
+    private static Take regex(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final Memo memo, final Take hook) {
         return new TkFork(
             new FkRegex("/robots.txt", ""),
             new FkRegex("/ticks", new TkTicks(pulse)),
-            new FkRegex("/status", new TkStatus(pulse)),
+            new FkRegex("/status", new TkStatus(pulse, memo)),
+            new FkRegex("/hooks/github", hook),
             new FkRegex("/s/.*", new TkRedirect()),
             new FkRegex("/sitemap", new TkSitemap(talks)),
             new FkRegex(
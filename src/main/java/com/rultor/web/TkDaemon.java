@@ -5,6 +5,8 @@
 package com.rultor.web;
 
 import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
 import com.rultor.agents.daemons.Tail;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
@@ -30,6 +32,9 @@ import org.takes.facets.fork.RqRegex;
 import org.takes.facets.fork.TkRegex;
 import org.takes.facets.forward.RsForward;
 import org.takes.rs.RsFluent;
+import org.w3c.dom.Node;
+import org.xembly.Directives;
+import org.xembly.Xembler;
 
 /**
  * Single daemon.
@@ -123,7 +128,9 @@ final class TkDaemon implements TkRegex {
                             ),
                         StandardCharsets.UTF_8
                     ),
-                    TkDaemon.escape(new Tail(talk.read(), hash).read()),
+                    TkDaemon.escape(
+                        new Tail(this.xml(talk, hash), hash).read()
+                    ),
                     AutoCloseInputStream.builder()
                         .setInputStream(
                             Objects.requireNonNull(
@@ -135,6 +142,36 @@ final class TkDaemon implements TkRegex {
         );
     }
 
+    /**
+     * XML of the talk, with the log of the daemon, even if it was
+     * moved out of the talk.
+     * @param talk Talk
+     * @param hash Hash of the daemon
+     * @return XML
+     * @throws IOException If fails
+     */
+    private XML xml(final Talk talk, final String hash) throws IOException {
+        XML xml = talk.read();
+        if (xml.nodes(String.format("/talk/archive/log[@id='%s']", hash))
+            .isEmpty() && !xml.nodes("/talk/archive/@spilled").isEmpty()) {
+            for (final XML log : this.talks.archive(talk.name())) {
+                if (log.xpath("@id").get(0).equals(hash)) {
+                    final Node node = xml.inner().cloneNode(true);
+                    new Xembler(
+                        new Directives().xpath("/talk/archive")
+                            .add("log")
+                            .attr("id", hash)
+                            .attr("title", log.xpath("@title").get(0))
+                            .set(log.xpath("text()").get(0))
+                    ).applyQuietly(node);
+                    xml = new XMLDocument(node);
+                    break;
+                }
+            }
+        }
+        return xml;
+    }
+
     /**
      * Escape HTML chars in input stream.
      * @param input Input stream
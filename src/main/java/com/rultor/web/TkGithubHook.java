@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.jcabi.github.Coordinates;
+import com.jcabi.log.Logger;
+import com.rultor.agents.github.IssueTalk;
+import com.rultor.spi.Schedule;
+import com.rultor.spi.Talks;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rq.RqHeaders;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithStatus;
+
+/**
+ * GitHub webhook, for {@code issue_comment} and {@code issues} events.
+ *
+ * <p>When I'm mentioned in a new comment or a new issue, the talk is
+ * created or activated right here and the {@link Schedule} is woken up,
+ * so that the routine processes it in a few seconds, instead of waiting
+ * for the next poll of GitHub notifications, by
+ * {@link com.rultor.agents.github.StartsTalks}, which stays as a safety
+ * net. The payload must be signed with the shared secret, in the
+ * {@code X-Hub-Signature-256} header, otherwise it is rejected.</p>
+ *
+ * @since 2.0
+ */
+final class TkGithubHook implements Take {
+
+    /**
+     * Talks.
+     */
+    private final transient Talks talks;
+
+    /**
+     * Schedule of the routine.
+     */
+    private final transient Schedule schedule;
+
+    /**
+     * My login in GitHub.
+     */
+    private final transient String login;
+
+    /**
+     * Secret of the webhook.
+     */
+    private final transient String secret;
+
+    /**
+     * Ctor.
+     * @param tlks Talks
+     * @param sch Schedule of the routine
+     * @param self My login in GitHub
+     * @param key Secret of the webhook
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    TkGithubHook(final Talks tlks, final Schedule sch, final String self,
+        final String key) {
+        this.talks = tlks;
+        this.schedule = sch;
+        this.login = self;
+        this.secret = key;
+    }
+
+    @Override
+    public Response act(final Request req) throws IOException {
+        final byte[] body = req.body().readAllBytes();
+        final RqHeaders.Smart headers = new RqHeaders.Smart(req);
+        final Response response;
+        if (this.signed(body, headers.single("X-Hub-Signature-256", ""))) {
+            response = new RsText(
+                this.accept(headers.single("X-GitHub-Event", ""), body)
+            );
+        } else {
+            Logger.warn(this, "Webhook with a wrong signature rejected");
+            response = new RsWithStatus(
+                new RsText("wrong signature"),
+                HttpURLConnection.HTTP_FORBIDDEN
+            );
+        }
+        return response;
+    }
+
+    /**
+     * The payload is signed with the secret?
+     * @param body The payload
+     * @param signature The signature, like "sha256=..."
+     * @return TRUE if the signature is right
+     */
+    private boolean signed(final byte[] body, final String signature) {
+        return !this.secret.isEmpty() && !this.secret.startsWith("${")
+            && MessageDigest.isEqual(
+                String.format(
+                    "sha256=%s",
+                    new HmacUtils(HmacAlgorithms.HMAC_SHA_256, this.secret)
+                        .hmacHex(body)
+                ).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII)
+            );
+    }
+
+    /**
+     * Accept the event.
+     * @param event Type of it
+     * @param body The payload
+     * @return What was done
+     * @throws IOException If fails
+     */
+    private String accept(final String event, final byte[] body)
+        throws IOException {
+        final JsonObject json;
+        try (JsonReader reader =
+            Json.createReader(new ByteArrayInputStream(body))) {
+            json = reader.readObject();
+        }
+        final String action = json.getString("action", "");
+        final String text;
+        final String author;
+        if ("issue_comment".equals(event) && "created".equals(action)) {
+            text = json.getJsonObject("comment").getString("body", "");
+            author = json.getJsonObject("comment")
+                .getJsonObject("user").getString("login", "");
+        } else if ("issues".equals(event) && "opened".equals(action)) {
+            text = json.getJsonObject("issue").getString("body", "");
+            author = json.getJsonObject("issue")
+                .getJsonObject("user").getString("login", "");
+        } else {
+            text = "";
+            author = "";
+        }
+        final String result;
+        if (author.equalsIgnoreCase(this.login) || !this.mentioned(text)) {
+            result = String.format("%s/%s ignored", event, action);
+        } else {
+            final JsonObject issue = json.getJsonObject("issue");
+            final String name = new IssueTalk(
+                new Coordinates.Simple(
+                    json.getJsonObject("repository").getString("full_name")
+                ),
+                issue.getInt("number"),
+                issue.getString("html_url")
+            ).activate(this.talks);
+            this.schedule.wake(name);
+            result = String.format("%s activated", name);
+        }
+        Logger.info(this, "Webhook %s/%s: %s", event, action, result);
+        return result;
+    }
+
+    /**
+     * I'm mentioned in the text?
+     * @param text The text
+     * @return TRUE if mentioned
+     */
+    private boolean mentioned(final String text) {
+        return text.toLowerCase(Locale.ENGLISH).contains(
+            String.format("@%s", this.login.toLowerCase(Locale.ENGLISH))
+        );
+    }
+
+}
@@ -4,7 +4,6 @@
  */
 package com.rultor.web;
 
-import com.jcabi.xml.XML;
 import com.rultor.Toggles;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
@@ -68,12 +67,9 @@ final class TkHome implements Take {
         for (final Talk talk : new HeadOf<>(5, this.talks.recent())) {
             dirs.add("talk").set(talk.name())
                 .attr("timeago", pretty.format(talk.updated()));
-            final XML xml = talk.read();
-            if (!xml.nodes("/talk/wire/href").isEmpty()) {
-                dirs.attr(
-                    "href",
-                    talk.read().xpath("/talk/wire/href/text()").get(0)
-                );
+            final String href = talk.summary().href();
+            if (!href.isEmpty()) {
+                dirs.attr("href", href);
             }
             dirs.up();
         }
@@ -6,13 +6,16 @@ package com.rultor.web;
 
 import com.jcabi.xml.XML;
 import com.rultor.agents.daemons.Home;
+import com.rultor.spi.Summary;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.Reversed;
 import org.cactoos.list.ListOf;
 import org.ocpsoft.prettytime.PrettyTime;
 import org.takes.Response;
@@ -35,6 +38,11 @@ import org.xembly.Directives;
  */
 final class TkSiblings implements TkRegex {
 
+    /**
+     * How many logs, moved out of a talk, to show.
+     */
+    private static final int SPILLED = 20;
+
     /**
      * Talks.
      */
@@ -126,19 +134,40 @@ final class TkSiblings implements TkRegex {
 
     /**
      * Convert talk to directives.
+     *
+     * <p>Only the summary of the talk is used, not its XML. Logs moved
+     * out of the talk are fetched only if there are some, and only
+     * the last page of them. All logs are listed the oldest first:
+     * the moved ones, which are older, and then the ones in the talk.</p>
+     *
      * @param talk The talk to convert
      * @return Directives
      * @throws IOException If fails
-     * @checkstyle NonStaticMethodCheck (10 lines)
      */
     private Iterable<Directive> dirs(final Talk talk) throws IOException {
-        final XML xml = talk.read();
+        final Summary summary = talk.summary();
+        final long number = talk.number();
         final Directives dirs = new Directives().add("talk").add("archive");
-        for (final XML log : xml.nodes("/talk/archive/log")) {
-            dirs.append(TkSiblings.log(xml, log));
+        if (summary.spilled() > 0L) {
+            for (final XML log : new Reversed<>(
+                new HeadOf<>(
+                    TkSiblings.SPILLED, this.talks.archive(talk.name())
+                )
+            )) {
+                dirs.append(
+                    TkSiblings.log(
+                        number, log.xpath("@id").get(0),
+                        log.xpath("@title").get(0)
+                    )
+                );
+            }
+        }
+        for (final Map.Entry<String, String> log
+            : summary.logs().entrySet()) {
+            dirs.append(TkSiblings.log(number, log.getKey(), log.getValue()));
         }
         return dirs.up().add("name").set(talk.name()).up()
-            .add("href").set(xml.xpath("/talk/wire/href/text()").get(0)).up()
+            .add("href").set(summary.href()).up()
             .add("updated").set(Long.toString(talk.updated().getTime())).up()
             .add("timeago").set(new PrettyTime().format(talk.updated())).up()
             .up();
@@ -146,16 +175,17 @@ final class TkSiblings implements TkRegex {
 
     /**
      * Convert log to JAXB.
-     * @param talk Talk
-     * @param log The log to convert
+     * @param number Number of the talk
+     * @param hash ID of the log
+     * @param title Title of the log
      * @return JAXB
      */
-    private static Iterable<Directive> log(final XML talk, final XML log) {
-        final String hash = log.xpath("@id").get(0);
+    private static Iterable<Directive> log(final long number,
+        final String hash, final String title) {
         return new Directives().add("log")
             .add("id").set(hash).up()
-            .add("href").set(new Home(talk, hash).uri().toString()).up()
-            .add("title").set(log.xpath("@title").get(0)).up()
+            .add("href").set(new Home(number, hash).uri().toString()).up()
+            .add("title").set(title).up()
             .up();
     }
 
@@ -7,6 +7,7 @@ package com.rultor.web;
 import com.jcabi.xml.XML;
 import com.rultor.Time;
 import com.rultor.agents.daemons.Home;
+import com.rultor.spi.Summary;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
@@ -55,9 +56,14 @@ final class TkSitemap implements Take {
             "<urlset xmlns='http://www.sitemaps.org/schemas/sitemap/0.9'>"
         );
         for (final Talk talk : this.talks.recent()) {
-            final XML xml = talk.read();
-            for (final String hash : xml.xpath("/talk/archive/log/@id")) {
-                doc.append(TkSitemap.toXML(talk, xml, hash));
+            final Summary summary = talk.summary();
+            for (final String hash : summary.logs().keySet()) {
+                doc.append(TkSitemap.toXML(talk, hash));
+            }
+            if (summary.spilled() > 0L) {
+                for (final XML log : this.talks.archive(talk.name())) {
+                    doc.append(TkSitemap.toXML(talk, log.xpath("@id").get(0)));
+                }
             }
         }
         return doc.append("</urlset>").toString();
@@ -66,19 +72,18 @@ final class TkSitemap implements Take {
     /**
      * Convert XML and hash into node.
      * @param talk Talk
-     * @param xml Talk XML
      * @param hash Hash
      * @return XML text
      * @throws IOException If fails
      * @checkstyle AbbreviationAsWordInNameCheck (10 lines)
      */
-    private static String toXML(final Talk talk, final XML xml,
-        final String hash) throws IOException {
+    private static String toXML(final Talk talk, final String hash)
+        throws IOException {
         return new StringBuilder(100)
             .append("<url><loc>")
             .append(
                 StringEscapeUtils.escapeXml11(
-                    new Home(xml, hash).uri().toString()
+                    new Home(talk.number(), hash).uri().toString()
                 )
             )
             .append("</loc><lastmod>")
@@ -4,11 +4,15 @@
  */
 package com.rultor.web;
 
+import com.google.common.cache.CacheStats;
 import com.jcabi.log.Logger;
+import com.rultor.agents.github.CachingWire;
+import com.rultor.cached.Memo;
 import com.rultor.spi.Pulse;
 import com.rultor.spi.Tick;
 import java.net.HttpURLConnection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.cactoos.list.ListOf;
 import org.takes.Request;
@@ -34,12 +38,19 @@ final class TkStatus implements Take {
      */
     private final transient Pulse pulse;
 
+    /**
+     * Memory of cached talks.
+     */
+    private final transient Memo memo;
+
     /**
      * Ctor.
      * @param pls Pulse
+     * @param mem Memory of cached talks
      */
-    TkStatus(final Pulse pls) {
+    TkStatus(final Pulse pls, final Memo mem) {
         this.pulse = pls;
+        this.memo = mem;
         this.start = System.currentTimeMillis();
     }
 
@@ -83,6 +94,26 @@ final class TkStatus implements Take {
                 );
             }
         }
+        msg.append('\n');
+        for (final Map.Entry<String, CacheStats> ent
+            : this.memo.stats().entrySet()) {
+            msg.append(
+                String.format(
+                    "\nCache '%s': %d hits, %d misses, %d evictions",
+                    ent.getKey(), ent.getValue().hitCount(),
+                    ent.getValue().missCount(),
+                    ent.getValue().evictionCount()
+                )
+            );
+        }
+        final Map<String, Long> github = CachingWire.stats();
+        msg.append(
+            String.format(
+                "\nGitHub cache: %d hits, %d modified, %d misses",
+                github.get("hits"), github.get("modified"),
+                github.get("misses")
+            )
+        );
         for (final Throwable error : this.pulse.error()) {
             msg.append(Logger.format("\n\n%[exception]s", error));
         }
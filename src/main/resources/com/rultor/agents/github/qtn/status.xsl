@@ -53,7 +53,7 @@
   </xsl:template>
   <xsl:template match="archive[log]">
     <xsl:text> * </xsl:text>
-    <xsl:value-of select="count(log)"/>
+    <xsl:value-of select="count(log) + sum(@spilled)"/>
     <xsl:text> build(s) archived: </xsl:text>
     <xsl:for-each select="log">
       <xsl:if test="position() &gt; 1">
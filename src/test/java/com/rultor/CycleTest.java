@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Tests for {@link Cycle}.
+ *
+ * @since 2.0
+ */
+final class CycleTest {
+
+    @Test
+    void fetchesActiveTalksOnce() throws Exception {
+        final Talks talks = new Talks.InDir();
+        talks.create("a/b", "first");
+        final Cycle cycle = new Cycle(talks);
+        talks.create("a/b", "second");
+        MatcherAssert.assertThat(
+            "The same talks should be returned every time",
+            cycle.active().get(0),
+            Matchers.sameInstance(cycle.active().get(0))
+        );
+        MatcherAssert.assertThat(
+            "Talks created during the cycle should not be active in it",
+            cycle.active(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void writesModificationsOnFlush() throws Exception {
+        final Talks talks = new Talks.InDir();
+        talks.create("c/d", "third");
+        final Cycle cycle = new Cycle(talks);
+        final Talk talk = cycle.active().get(0);
+        talk.modify(new Directives().xpath("/talk").attr("later", "true"));
+        MatcherAssert.assertThat(
+            "Modification should be seen in the cycle",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+        cycle.flush();
+        MatcherAssert.assertThat(
+            "Modification should be written",
+            talks.get("third").read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+    }
+
+}
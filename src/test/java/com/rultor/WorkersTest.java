@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.rultor.spi.Talk;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Workers}.
+ *
+ * @since 2.0
+ */
+final class WorkersTest {
+
+    @Test
+    void processesAllTalks() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        try (Workers workers = new Workers(2, TimeUnit.MINUTES.toMillis(1L))) {
+            MatcherAssert.assertThat(
+                "All talks should be processed",
+                workers.apply(
+                    new ListOf<>(
+                        new Talk.InFile(), new Talk.InFile(), new Talk.InFile()
+                    ),
+                    talk -> count.incrementAndGet()
+                ),
+                Matchers.equalTo(3)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Each talk should be processed once",
+            count.get(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void isolatesBrokenTalks() throws Exception {
+        final Talk broken = new Talk.InFile();
+        try (Workers workers = new Workers(2, TimeUnit.MINUTES.toMillis(1L))) {
+            MatcherAssert.assertThat(
+                "Broken talk should not break others",
+                workers.apply(
+                    new ListOf<>(broken, new Talk.InFile()),
+                    talk -> {
+                        if (talk.equals(broken)) {
+                            throw new IllegalStateException("intended");
+                        }
+                    }
+                ),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    void interruptsSlowTalks() throws Exception {
+        final long start = System.currentTimeMillis();
+        try (Workers workers = new Workers(1, 100L)) {
+            MatcherAssert.assertThat(
+                "Slow talk should be interrupted",
+                workers.apply(
+                    new ListOf<>(new Talk.InFile()),
+                    talk -> TimeUnit.MINUTES.sleep(1L)
+                ),
+                Matchers.equalTo(0)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Slow talk should not block the pool",
+            System.currentTimeMillis() - start,
+            Matchers.lessThan(TimeUnit.SECONDS.toMillis(30L))
+        );
+    }
+
+    @Test
+    void doesNotWaitForTalksIgnoringInterrupts() throws Exception {
+        final long start = System.currentTimeMillis();
+        try (Workers workers = new Workers(2, 100L)) {
+            MatcherAssert.assertThat(
+                "Stuck talk should not be counted",
+                workers.apply(
+                    new ListOf<>(new Talk.InFile(), new Talk.InFile()),
+                    talk -> Uninterruptibles.sleepUninterruptibly(
+                        5L, TimeUnit.SECONDS
+                    )
+                ),
+                Matchers.equalTo(0)
+            );
+            MatcherAssert.assertThat(
+                "Stuck talks should not hold up the cycle",
+                System.currentTimeMillis() - start,
+                Matchers.lessThan(TimeUnit.SECONDS.toMillis(3L))
+            );
+        }
+    }
+
+    @Test
+    void cancelsQueuedTalksAfterDeadlineOfCycle() throws Exception {
+        final long start = System.currentTimeMillis();
+        final AtomicInteger started = new AtomicInteger();
+        try (Workers workers = new Workers(1, 100L)) {
+            workers.apply(
+                new ListOf<>(
+                    new Talk.InFile(), new Talk.InFile(), new Talk.InFile()
+                ),
+                talk -> {
+                    started.incrementAndGet();
+                    Uninterruptibles.sleepUninterruptibly(
+                        5L, TimeUnit.SECONDS
+                    );
+                }
+            );
+            MatcherAssert.assertThat(
+                "Queued talks should not hold up the cycle",
+                System.currentTimeMillis() - start,
+                Matchers.lessThan(TimeUnit.SECONDS.toMillis(3L))
+            );
+        }
+        MatcherAssert.assertThat(
+            "Queued talks should not be started",
+            started.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+}
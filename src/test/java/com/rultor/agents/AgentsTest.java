@@ -10,6 +10,7 @@ import com.jcabi.github.Github;
 import com.jcabi.github.mock.MkGithub;
 import com.rultor.spi.Profile;
 import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
 import com.yegor256.WeAreOnline;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,7 @@ final class AgentsTest {
         final Sttc sttc = new MkSttc();
         final Profile profile = new Profile.Fixed();
         Assertions.assertDoesNotThrow(
-            () -> new Agents(github, sttc)
+            () -> new Agents(github, sttc, new Talks.InDir())
                 .agent(talk, profile).execute(talk)
         );
     }
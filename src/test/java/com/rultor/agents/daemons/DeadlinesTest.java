@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.rultor.Time;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Deadlines}.
+ *
+ * @since 2.0
+ */
+final class DeadlinesTest {
+
+    @Test
+    void findsDueDaemons() {
+        MatcherAssert.assertThat(
+            "Old daemon should be due",
+            new Deadlines("test", 1L).due(
+                DeadlinesTest.talk("old", new Time(0L))
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Fresh daemon should not be due",
+            new Deadlines("test", 1L).due(
+                DeadlinesTest.talk("fresh", new Time())
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void movesDeadlineWhenDaemonIsStartedAgain() {
+        final Deadlines deadlines = new Deadlines("again", 60L);
+        MatcherAssert.assertThat(
+            "Daemon started long ago should be due",
+            deadlines.due(DeadlinesTest.talk("restarted", new Time(0L))),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Daemon started again should not be due",
+            deadlines.due(DeadlinesTest.talk("restarted", new Time())),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsDeadlinesOfDifferentMinutesApart() {
+        final XML talk = DeadlinesTest.talk(
+            "apart", new Time(System.currentTimeMillis() - 7_200_000L)
+        );
+        MatcherAssert.assertThat(
+            "Daemon started two hours ago should be due in an hour",
+            new Deadlines("kill", 60L).due(talk),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Daemon started two hours ago should not be due in five hours",
+            new Deadlines("kill", 300L).due(talk),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Make a talk with a daemon.
+     * @param name Name of the talk
+     * @param started When the daemon was started
+     * @return XML
+     */
+    private static XML talk(final String name, final Time started) {
+        return new XMLDocument(
+            String.format(
+                "<talk name='%s'><daemon><started>%s</started></daemon></talk>",
+                name, started.iso()
+            )
+        );
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Lines}.
+ *
+ * @since 2.0
+ */
+final class LinesTest {
+
+    @Test
+    void keepsLastLinesAndHighlights() throws Exception {
+        final Lines lines = new Lines(2, 100);
+        try (lines) {
+            lines.write(
+                String.join(
+                    "\n", "first", "RULTOR: good", "sec", "ond", "RULTOR: ok"
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Only the last lines should be kept",
+            lines.tail(),
+            Matchers.equalTo(
+                String.join(System.lineSeparator(), "ond", "RULTOR: ok")
+            )
+        );
+        MatcherAssert.assertThat(
+            "All highlights should be collected",
+            lines.highlights(),
+            Matchers.equalTo("good\nok")
+        );
+    }
+
+    @Test
+    void joinsLinesSplitAcrossWrites() throws Exception {
+        final Lines lines = new Lines(5, 4);
+        try (lines) {
+            lines.write("ab".getBytes(StandardCharsets.UTF_8));
+            lines.write("cdef\r\n".getBytes(StandardCharsets.UTF_8));
+            lines.write('x');
+        }
+        MatcherAssert.assertThat(
+            "Lines should be joined and cut",
+            lines.tail(),
+            Matchers.equalTo(String.join(System.lineSeparator(), "abcd", "x"))
+        );
+    }
+
+}
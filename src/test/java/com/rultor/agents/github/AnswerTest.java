@@ -64,6 +64,49 @@ final class AnswerTest {
         );
     }
 
+    /**
+     * Answer can ignore my comments before the original one.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void ignoresMyCommentsBeforeOriginal() throws Exception {
+        final Issue issue = AnswerTest.issue();
+        for (int idx = 0; idx < 5; ++idx) {
+            issue.comments().post("earlier answer");
+        }
+        ((MkGithub) issue.repo().github()).relogin("walter")
+            .repos().get(issue.repo().coordinates())
+            .issues().get(1).comments().post("one more, please");
+        new Answer(new Comment.Smart(issue.comments().get(6))).post(
+            true, "done"
+        );
+        MatcherAssert.assertThat(
+            "Answer should be posted after the comment of somebody else",
+            new ListOf<>(issue.comments().iterate(new Date(0L))).size(),
+            Matchers.is(7)
+        );
+    }
+
+    /**
+     * Answer can count my comments before the original one, if it's mine.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void countsMyCommentsBeforeMyOwnOriginal() throws Exception {
+        final Issue issue = AnswerTest.issue();
+        for (int idx = 0; idx < 5; ++idx) {
+            issue.comments().post("my own comment");
+        }
+        new Answer(new Comment.Smart(issue.comments().get(5))).post(
+            true, "again"
+        );
+        MatcherAssert.assertThat(
+            "No answer should be posted after five of mine",
+            new ListOf<>(issue.comments().iterate(new Date(0L))).size(),
+            Matchers.is(5)
+        );
+    }
+
     /**
      * Make an issue.
      * @return Issue
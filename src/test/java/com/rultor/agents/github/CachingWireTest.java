@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.http.request.JdkRequest;
+import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.takes.Response;
+import org.takes.http.FtRemote;
+import org.takes.rq.RqHeaders;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithHeader;
+import org.takes.rs.RsWithStatus;
+
+/**
+ * Test case for {@link CachingWire}.
+ * @since 2.0
+ */
+final class CachingWireTest {
+
+    @Test
+    void replaysNotModifiedFromCache(@TempDir final Path temp)
+        throws Exception {
+        final AtomicInteger full = new AtomicInteger();
+        new FtRemote(
+            req -> {
+                final Response response;
+                if (new RqHeaders.Smart(req).single("If-None-Match", "")
+                    .equals("\"v1\"")) {
+                    response = new RsWithStatus(
+                        HttpURLConnection.HTTP_NOT_MODIFIED
+                    );
+                } else {
+                    full.incrementAndGet();
+                    response = new RsWithHeader(
+                        new RsText("the content"), "ETag", "\"v1\""
+                    );
+                }
+                return response;
+            }
+        ).exec(
+            home -> {
+                for (int idx = 0; idx < 3; ++idx) {
+                    MatcherAssert.assertThat(
+                        "The same content should be returned every time",
+                        new JdkRequest(home)
+                            .through(
+                                CachingWire.class, temp.toString(), 10
+                            )
+                            .fetch()
+                            .body(),
+                        Matchers.equalTo("the content")
+                    );
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "The content should be fetched only once",
+            full.get(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Responses not modified should be counted as hits",
+            CachingWire.stats().get("hits"),
+            Matchers.greaterThanOrEqualTo(2L)
+        );
+    }
+
+    @Test
+    void makesDirectoryAccessibleOnlyToOwner(@TempDir final Path temp)
+        throws Exception {
+        Assumptions.assumeTrue(
+            temp.getFileSystem().supportedFileAttributeViews()
+                .contains("posix")
+        );
+        final Path dir = temp.resolve("cache");
+        new DiskCache(dir.toFile(), 10);
+        MatcherAssert.assertThat(
+            "The directory should be accessible only to its owner",
+            PosixFilePermissions.toString(
+                Files.getPosixFilePermissions(dir)
+            ),
+            Matchers.equalTo("rwx------")
+        );
+    }
+
+}
@@ -15,6 +15,7 @@ import com.jcabi.github.mock.MkBranches;
 import com.jcabi.github.mock.MkChecks;
 import com.jcabi.github.mock.MkGithub;
 import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
 import com.rultor.agents.github.qtn.QnDeploy;
 import com.rultor.agents.github.qtn.QnFirstOf;
 import com.rultor.agents.github.qtn.QnHello;
@@ -24,12 +25,15 @@ import com.rultor.agents.github.qtn.QnMerge;
 import com.rultor.agents.github.qtn.QnWithAuthor;
 import com.rultor.spi.Agent;
 import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Date;
+import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.xembly.Directives;
 
 /**
@@ -52,6 +56,7 @@ final class UnderstandsTest {
         issue.comments().post("@jeff deploy");
         final Agent agent = new Understands(
             repo.github(),
+            new Talks.InDir(),
             new QnWithAuthor(
                 new QnFirstOf(
                     Arrays.asList(
@@ -76,6 +81,42 @@ final class UnderstandsTest {
         );
     }
 
+    /**
+     * Understands can remember when the last seen comment was created
+     * and keep reading new comments from there.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void readsNewCommentsSinceLastSeen() throws Exception {
+        final Repo repo = new MkGithub().randomRepo();
+        final Issue issue = repo.issues().create("", "");
+        issue.comments().post("@jeff hello");
+        issue.comments().post("@jeff hello again");
+        final Agent agent = new Understands(
+            repo.github(),
+            new Talks.InDir(),
+            new QnWithAuthor(new QnIfContains("hello", new QnHello()))
+        );
+        final Talk talk = UnderstandsTest.talk(issue);
+        agent.execute(talk);
+        agent.execute(talk);
+        issue.comments().post("@jeff deploy");
+        talk.modify(new Directives().xpath("/talk").attr("later", "true"));
+        new Understands(
+            repo.github(),
+            new Talks.InDir(),
+            new QnWithAuthor(new QnIfContains("deploy", new QnDeploy()))
+        ).execute(talk);
+        MatcherAssert.assertThat(
+            "New comment should be understood after the cursor",
+            talk.read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk/wire[github-seen='3' and github-since]",
+                "/talk/request[@id='3' and type='deploy']"
+            )
+        );
+    }
+
     /**
      * Understands can ignore LATER req.
      * @throws Exception In case of error.
@@ -86,7 +127,7 @@ final class UnderstandsTest {
         final Issue issue = repo.issues().create("", "");
         issue.comments().post("@jeff hey you");
         final Agent agent = new Understands(
-            repo.github(), (cmt, home) -> Req.LATER
+            repo.github(), new Talks.InDir(), (cmt, home) -> Req.LATER
         );
         final Talk talk = UnderstandsTest.talk(issue);
         agent.execute(talk);
@@ -107,6 +148,7 @@ final class UnderstandsTest {
         final Issue issue = repo.issues().create("test", "@test hello");
         final Agent agent = new Understands(
             repo.github(),
+            new Talks.InDir(),
             new QnIfContains("hello", new QnHello())
         );
         final Talk talk = UnderstandsTest.talk(issue);
@@ -137,6 +179,7 @@ final class UnderstandsTest {
         );
         new Understands(
             repo.github(),
+            new Talks.InDir(),
             new QnFirstOf(
                 new QnMerge(),
                 new QnIamLost()
@@ -155,6 +198,44 @@ final class UnderstandsTest {
         );
     }
 
+    /**
+     * Understands can find the log of a request among the logs moved
+     * out of the talk.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void seesConversationInSpilledArchive() throws Exception {
+        final Repo repo = new MkGithub().randomRepo();
+        final Issue issue = repo.issues().create("", "");
+        final Comment comment = issue.comments().post("@jeff deploy");
+        final Talk talk = UnderstandsTest.talk(issue);
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("archive").attr("spilled", "1")
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.when(talks.archive(Mockito.anyString())).thenReturn(
+            new ListOf<>(
+                new XMLDocument(
+                    String.format(
+                        "<log id='%d' title='deploy'>s3://a</log>",
+                        comment.number()
+                    )
+                )
+            )
+        );
+        new Understands(
+            repo.github(),
+            talks,
+            new QnWithAuthor(new QnIfContains("deploy", new QnDeploy()))
+        ).execute(talk);
+        MatcherAssert.assertThat(
+            "Request seen already should not be created again",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk[not(request)]")
+        );
+    }
+
     /**
      * Make talk from issue.
      * @param issue The issue
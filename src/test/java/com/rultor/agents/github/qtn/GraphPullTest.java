@@ -0,0 +1,226 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github.qtn;
+
+import com.jcabi.github.Pull;
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkBranches;
+import com.jcabi.github.mock.MkGithub;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link GraphPull}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (500 lines)
+ */
+final class GraphPullTest {
+
+    /**
+     * GraphPull can read everything from one GraphQL response.
+     * @throws Exception In case of error
+     */
+    @Test
+    void readsGraphqlResponse() throws Exception {
+        final PullSnapshot pull = new GraphPull(
+            new FakeRequest().withBody(
+                GraphPullTest.response("IN_PROGRESS", null).build().toString()
+            ),
+            GraphPullTest.pull()
+        ).snapshot();
+        MatcherAssert.assertThat(
+            "Pull request should be open",
+            pull.open(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Head branch should be read",
+            pull.ref("head"),
+            Matchers.equalTo("fix")
+        );
+        MatcherAssert.assertThat(
+            "Base repository should be read",
+            pull.repo("base"),
+            Matchers.equalTo("yegor256/test")
+        );
+        MatcherAssert.assertThat(
+            "Head repository should be gone",
+            pull.gone("head"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "System file should be found",
+            pull.touches(".rultor.yml"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Unfinished check should not be green",
+            pull.green(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * GraphPull can find successful checks.
+     * @throws Exception In case of error
+     */
+    @Test
+    void findsSuccessfulChecks() throws Exception {
+        MatcherAssert.assertThat(
+            "Completed check should be green",
+            new GraphPull(
+                new FakeRequest().withBody(
+                    GraphPullTest.response("COMPLETED", "SUCCESS")
+                        .build().toString()
+                ),
+                GraphPullTest.pull()
+            ).snapshot().green(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * GraphPull can use REST, if GraphQL is not available.
+     * @throws Exception In case of error
+     */
+    @Test
+    void fallsBackToRest() throws Exception {
+        final PullSnapshot pull = new GraphPull(
+            new FakeRequest().withStatus(HttpURLConnection.HTTP_NOT_FOUND),
+            GraphPullTest.pull()
+        ).snapshot();
+        MatcherAssert.assertThat(
+            "Head branch should be read through REST",
+            pull.ref("head"),
+            Matchers.equalTo("head")
+        );
+        MatcherAssert.assertThat(
+            "Base branch should be read through REST",
+            pull.ref("base"),
+            Matchers.equalTo("base")
+        );
+    }
+
+    /**
+     * Make a pull request.
+     * @return Pull
+     * @throws IOException If fails
+     */
+    private static Pull pull() throws IOException {
+        final Repo repo = new MkGithub().randomRepo();
+        final MkBranches branches = (MkBranches) repo.branches();
+        branches.create("head", "abcdef4");
+        branches.create("base", "abcdef5");
+        return repo.pulls().create("", "head", "base");
+    }
+
+    /**
+     * Make a GraphQL response with one check.
+     * @param status Status of the check
+     * @param conclusion Conclusion of the check or NULL
+     * @return JSON
+     */
+    private static JsonObjectBuilder response(final String status,
+        final String conclusion) {
+        final JsonObjectBuilder run = Json.createObjectBuilder()
+            .add("status", status);
+        if (conclusion == null) {
+            run.addNull("conclusion");
+        } else {
+            run.add("conclusion", conclusion);
+        }
+        final JsonObjectBuilder last = Json.createObjectBuilder().add(
+            "hasNextPage", false
+        );
+        return Json.createObjectBuilder().add(
+            "data",
+            Json.createObjectBuilder().add(
+                "repository",
+                Json.createObjectBuilder().add(
+                    "pullRequest",
+                    Json.createObjectBuilder()
+                        .add("state", "OPEN")
+                        .add("title", "Fix the typo")
+                        .add("headRefName", "fix")
+                        .add("baseRefName", "master")
+                        .addNull("headRepository")
+                        .add(
+                            "baseRepository",
+                            Json.createObjectBuilder()
+                                .add("nameWithOwner", "yegor256/test")
+                        )
+                        .add(
+                            "files",
+                            Json.createObjectBuilder()
+                                .add("pageInfo", last)
+                                .add(
+                                    "nodes",
+                                    Json.createArrayBuilder().add(
+                                        Json.createObjectBuilder()
+                                            .add("path", ".rultor.yml")
+                                    )
+                                )
+                        )
+                        .add(
+                            "commits",
+                            GraphPullTest.commits(run)
+                        )
+                )
+            )
+        );
+    }
+
+    /**
+     * Make the last commit with one check run.
+     * @param run The run
+     * @return JSON
+     */
+    private static JsonObjectBuilder commits(final JsonObjectBuilder run) {
+        return Json.createObjectBuilder().add(
+            "nodes",
+            Json.createArrayBuilder().add(
+                Json.createObjectBuilder().add(
+                    "commit",
+                    Json.createObjectBuilder().add(
+                        "checkSuites",
+                        Json.createObjectBuilder()
+                            .add(
+                                "pageInfo",
+                                Json.createObjectBuilder()
+                                    .add("hasNextPage", false)
+                            )
+                            .add(
+                                "nodes",
+                                Json.createArrayBuilder().add(
+                                    Json.createObjectBuilder().add(
+                                        "checkRuns",
+                                        Json.createObjectBuilder()
+                                            .add(
+                                                "pageInfo",
+                                                Json.createObjectBuilder()
+                                                    .add("hasNextPage", false)
+                                            )
+                                            .add(
+                                                "nodes",
+                                                Json.createArrayBuilder()
+                                                    .add(run)
+                                            )
+                                    )
+                                )
+                            )
+                    )
+                )
+            )
+        );
+    }
+
+}
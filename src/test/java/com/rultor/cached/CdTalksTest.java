@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.cached;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Talks;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.xembly.Directives;
+
+/**
+ * Tests for {@link CdTalks}.
+ *
+ * @since 2.0
+ */
+final class CdTalksTest {
+
+    @Test
+    void forgetsOnlyModifiedTalk() throws Exception {
+        final Talks origin = new Talks.InDir();
+        final Talks talks = new CdTalks(origin);
+        talks.create("a/b", "first");
+        talks.create("a/b", "second");
+        talks.get("first").read();
+        talks.get("second").read();
+        origin.get("second").modify(
+            new Directives().xpath("/talk").attr("public", "true")
+        );
+        talks.get("first").modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        MatcherAssert.assertThat(
+            "Modified talk should be read again",
+            talks.get("first").read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+        MatcherAssert.assertThat(
+            "Other talk should stay in the cache",
+            talks.get("second").read(),
+            Matchers.not(XhtmlMatchers.hasXPath("/talk[@public]"))
+        );
+    }
+
+    @Test
+    void countsHitsAndMisses() throws Exception {
+        final Memo memo = new Memo();
+        final Talks talks = new CdTalks(new Talks.InDir(), memo);
+        talks.create("c/d", "third");
+        talks.get("third").read();
+        talks.get("third").read();
+        MatcherAssert.assertThat(
+            "XML should be loaded once",
+            memo.stats().get("xml").missCount(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "XML should be taken from the cache once",
+            memo.stats().get("xml").hitCount(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void givesNewDocumentEveryTime() throws Exception {
+        final Talks talks = new CdTalks(new Talks.InDir());
+        talks.create("g/h", "fifth");
+        Document.class.cast(talks.get("fifth").read().inner())
+            .getDocumentElement().setAttribute("later", "true");
+        MatcherAssert.assertThat(
+            "Cached XML should not be changed by its readers",
+            talks.get("fifth").read(),
+            Matchers.not(XhtmlMatchers.hasXPath("/talk[@later]"))
+        );
+    }
+
+    @Test
+    void seesModificationsOfActiveTalks() throws Exception {
+        final Talks talks = new CdTalks(new Talks.InDir());
+        talks.create("e/f", "fourth");
+        talks.active().iterator().next().read();
+        talks.get("fourth").modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        MatcherAssert.assertThat(
+            "Active talks should be read again after a modification",
+            talks.active().iterator().next().read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+    }
+
+}
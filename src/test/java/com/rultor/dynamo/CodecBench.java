@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.UncheckedText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Codec.Dictionary} against {@link Codec.Gzip},
+ * on the XML of a typical talk, with a daemon, a shell and a request.
+ *
+ * <p>It is not a test, run it with JMH, after {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:... org.openjdk.jmh.Main CodecBench}.
+ * The sizes of the encoded talk are logged once, before the
+ * measurements.</p>
+ *
+ * @since 2.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@SuppressWarnings("PMD.JUnit4TestShouldUseTestAnnotation")
+public class CodecBench {
+
+    /**
+     * The talk.
+     */
+    private final String xml = new UncheckedText(
+        new TextOf(new ResourceOf("com/rultor/dynamo/talk.xml"))
+    ).asString();
+
+    /**
+     * GZIP.
+     */
+    private final Codec gzip = new Codec.Gzip();
+
+    /**
+     * Deflate with the dictionary.
+     */
+    private final Codec dictionary = new Codec.Dictionary();
+
+    /**
+     * The talk, encoded with GZIP.
+     */
+    private byte[] gzipped;
+
+    /**
+     * The talk, encoded with the dictionary.
+     */
+    private byte[] deflated;
+
+    /**
+     * Encode the talk and log the sizes.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.gzipped = this.gzip.encode(this.xml);
+        this.deflated = this.dictionary.encode(this.xml);
+        Logger.info(
+            this, "The talk of %d bytes: %d with GZIP, %d with dictionary",
+            this.xml.length(), this.gzipped.length, this.deflated.length
+        );
+    }
+
+    /**
+     * Encode with GZIP.
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public byte[] encodeGzip() throws IOException {
+        return this.gzip.encode(this.xml);
+    }
+
+    /**
+     * Encode with the dictionary.
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public byte[] encodeDictionary() throws IOException {
+        return this.dictionary.encode(this.xml);
+    }
+
+    /**
+     * Decode with GZIP.
+     * @return XML
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String decodeGzip() throws IOException {
+        return this.gzip.decode(this.gzipped);
+    }
+
+    /**
+     * Decode with the dictionary.
+     * @return XML
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String decodeDictionary() throws IOException {
+        return this.dictionary.decode(this.deflated);
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import org.cactoos.text.Joined;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Codec}.
+ *
+ * @since 2.0
+ */
+final class CodecTest {
+
+    /**
+     * Typical talk.
+     */
+    private static final String TALK = new Joined(
+        "",
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>",
+        "<talk later=\"false\" name=\"yegor256/rultor#1234\" number=\"987\"",
+        " public=\"true\" version=\"3\"><wire>",
+        "<href>https://github.com/yegor256/rultor/issues/1234</href>",
+        "<github-repo>yegor256/rultor</github-repo>",
+        "<github-issue>1234</github-issue>",
+        "<github-seen>5678</github-seen></wire><archive>",
+        "<log id=\"a1b2c3\" title=\"merge\">s3://rultor/a1b2c3.txt</log>",
+        "</archive></talk>"
+    ).toString();
+
+    @Test
+    void encodesAndDecodes() throws Exception {
+        final Codec codec = new Codec.Dictionary();
+        MatcherAssert.assertThat(
+            "XML should survive encoding",
+            codec.decode(codec.encode(CodecTest.TALK)),
+            Matchers.equalTo(CodecTest.TALK)
+        );
+    }
+
+    @Test
+    void decodesOldGzip() throws Exception {
+        MatcherAssert.assertThat(
+            "GZIP content should still be decoded",
+            new Codec.Auto(new Codec.Dictionary()).decode(
+                new Codec.Gzip().encode(CodecTest.TALK)
+            ),
+            Matchers.equalTo(CodecTest.TALK)
+        );
+    }
+
+    @Test
+    void compressesBetterThanGzip() throws Exception {
+        MatcherAssert.assertThat(
+            "Dictionary should make the content smaller than GZIP",
+            new Codec.Dictionary().encode(CodecTest.TALK).length,
+            Matchers.lessThan(new Codec.Gzip().encode(CodecTest.TALK).length)
+        );
+    }
+
+}
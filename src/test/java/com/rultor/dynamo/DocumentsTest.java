@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+/**
+ * Test case for {@link Documents}.
+ *
+ * @since 2.0
+ */
+final class DocumentsTest {
+
+    @Test
+    void findsDocumentBySameUpdate() {
+        final Documents docs = new Documents(10L);
+        docs.put("a", DocumentsTest.doc(1L, "<talk name='a'/>"));
+        MatcherAssert.assertThat(
+            "Document should be found",
+            docs.get("a", 1L),
+            XhtmlMatchers.hasXPath("/talk[@name='a']")
+        );
+    }
+
+    @Test
+    void ignoresStaleDocument() {
+        final Documents docs = new Documents(10L);
+        docs.put("b", DocumentsTest.doc(1L, "<talk name='b'/>"));
+        MatcherAssert.assertThat(
+            "Document of another update should not be found",
+            docs.get("b", 2L),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void forgetsInvalidatedDocument() {
+        final Documents docs = new Documents(10L);
+        docs.put("c", DocumentsTest.doc(1L, "<talk name='c'/>"));
+        docs.invalidate("c");
+        MatcherAssert.assertThat(
+            "Invalidated document should not be found",
+            docs.get("c", 1L),
+            Matchers.nullValue()
+        );
+    }
+
+    @Test
+    void returnsDefensiveCopies() {
+        final Documents docs = new Documents(10L);
+        docs.put("d", DocumentsTest.doc(1L, "<talk name='d'/>"));
+        final XML xml = docs.get("d", 1L);
+        ((Element) xml.inner().getFirstChild()).setAttribute("name", "x");
+        MatcherAssert.assertThat(
+            "Cached document should not be modified",
+            docs.get("d", 1L),
+            XhtmlMatchers.hasXPath("/talk[@name='d']")
+        );
+    }
+
+    @Test
+    void findsLatestDocumentOfAnyUpdate() {
+        final Documents docs = new Documents(10L);
+        docs.put("e", new Documents.Doc(1L, 7L, true, new XMLDocument("<e/>")));
+        MatcherAssert.assertThat(
+            "Latest version should be found",
+            docs.latest("e").version(),
+            Matchers.equalTo(7L)
+        );
+    }
+
+    /**
+     * Make a document.
+     * @param updated When the talk was updated
+     * @param xml The XML
+     * @return Document
+     */
+    private static Documents.Doc doc(final long updated, final String xml) {
+        return new Documents.Doc(updated, 1L, true, new XMLDocument(xml));
+    }
+
+}
@@ -10,6 +10,7 @@ import com.jcabi.dynamo.Region;
 import com.jcabi.dynamo.retry.ReRegion;
 import com.jcabi.matchers.XhtmlMatchers;
 import com.rultor.Env;
+import com.rultor.spi.Summary;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import java.io.IOException;
@@ -184,6 +185,144 @@ final class DyTalksITTestCase {
         );
     }
 
+    /**
+     * DyTalk doesn't lose concurrent modifications.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void keepsConcurrentModifications() throws Exception {
+        final Talks talks = new DyTalks(
+            DyTalksITTestCase.dynamo(), new MkSttc().counters().get("")
+        );
+        final String name = "yegor256/rultor#1008";
+        talks.create("a/c", name);
+        final Talk first = talks.get(name);
+        final Talk second = talks.get(name);
+        first.modify(
+            new Directives().xpath("/talk").add("wire")
+                .add("href").set("http://example.com")
+        );
+        second.modify(new Directives().xpath("/talk").attr("later", "true"));
+        MatcherAssert.assertThat(
+            "Both modifications should be saved",
+            talks.get(name).read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk/wire/href",
+                "/talk[@later='true']"
+            )
+        );
+    }
+
+    /**
+     * DyTalk moves the oldest logs out of the talk.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void movesOldLogsToArchive() throws Exception {
+        final Talks talks = new DyTalks(
+            DyTalksITTestCase.dynamo(), new MkSttc().counters().get("")
+        );
+        final String name = "yegor256/rultor#1009";
+        talks.create("a/d", name);
+        final Directives dirs = new Directives().xpath("/talk").add("archive");
+        for (int idx = 0; idx < 60; ++idx) {
+            dirs.add("log")
+                .attr("id", String.format("%08x", idx))
+                .attr("title", "build")
+                .set("s3://test/build.txt")
+                .up();
+        }
+        talks.get(name).modify(dirs);
+        MatcherAssert.assertThat(
+            "Only the newest logs should stay in the talk",
+            talks.get(name).read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk/archive[@spilled='10' and count(log)=50]",
+                "/talk/archive/log[1][@id='0000000a']"
+            )
+        );
+        MatcherAssert.assertThat(
+            "The oldest logs should be in the archive, newest first",
+            talks.archive(name).iterator().next().xpath("@id"),
+            Matchers.contains("00000009")
+        );
+        MatcherAssert.assertThat(
+            "All moved logs should be in the archive",
+            talks.archive(name),
+            Matchers.iterableWithSize(10)
+        );
+    }
+
+    /**
+     * DyTalk keeps modifications in the journal, if asked to.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void keepsModificationsInJournal() throws Exception {
+        final Region region = DyTalksITTestCase.dynamo();
+        final Talks talks = new DyTalks(
+            region, new MkSttc().counters().get(""), true
+        );
+        final String name = "yegor256/rultor#1010";
+        talks.create("a/e", name);
+        talks.get(name).modify(
+            new Directives().xpath("/talk").add("archive")
+        );
+        for (int idx = 0; idx < 40; ++idx) {
+            talks.get(name).modify(
+                new Directives().xpath("/talk/archive").add("log")
+                    .attr("id", String.format("%08x", idx))
+                    .attr("title", "deploy")
+                    .set("s3://test/deploy.txt")
+            );
+        }
+        MatcherAssert.assertThat(
+            "All modifications should be seen",
+            talks.get(name).read(),
+            XhtmlMatchers.hasXPath("/talk/archive[count(log)=40]")
+        );
+        MatcherAssert.assertThat(
+            "XML should be moved out of the item",
+            region.table(DyTalks.TBL).frame()
+                .where(DyTalks.HASH, name)
+                .iterator().next()
+                .has(DyTalks.ATTR_XML),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "All entries should stay in the journal",
+            region.table(DyJournal.TBL).frame()
+                .where(DyJournal.HASH, name),
+            Matchers.iterableWithSize(41)
+        );
+    }
+
+    /**
+     * DyTalk keeps its summary in attributes.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void keepsSummaryInAttributes() throws Exception {
+        final Talks talks = new DyTalks(
+            DyTalksITTestCase.dynamo(), new MkSttc().counters().get("")
+        );
+        final String name = "yegor256/rultor#1011";
+        talks.create("a/f", name);
+        talks.get(name).modify(
+            new Directives().xpath("/talk")
+                .add("wire").add("href").set("http://example.com").up().up()
+                .add("archive").add("log")
+                .attr("id", "abcdef").attr("title", "merge\nof #1 ok")
+                .set("s3://test/merge.txt")
+        );
+        final Talk talk = talks.siblings("a/f", new Date()).iterator().next();
+        MatcherAssert.assertThat(
+            "Summary should be the same as in the XML",
+            talk.summary(),
+            Matchers.equalTo(new Summary(talk.read()))
+        );
+    }
+
     /**
      * DynamoDB region for tests.
      * @return Region
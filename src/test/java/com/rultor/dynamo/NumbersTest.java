@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.dynamo;
+
+import co.stateful.Counter;
+import co.stateful.mock.MkSttc;
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Numbers}.
+ *
+ * @since 2.0
+ */
+final class NumbersTest {
+
+    @Test
+    void reservesNumbersInBlocks() throws Exception {
+        final Counter counter = new MkSttc().counters().get("blocks");
+        final Numbers numbers = new Numbers(counter, 100L);
+        for (int idx = 0; idx < 150; ++idx) {
+            numbers.next();
+        }
+        MatcherAssert.assertThat(
+            "Counter should be incremented by two blocks only",
+            counter.incrementAndGet(0L),
+            Matchers.equalTo(200L)
+        );
+    }
+
+    @Test
+    void givesUniqueNumbersToManyNodes() throws Exception {
+        final Counter counter = new MkSttc().counters().get("nodes");
+        final Numbers first = new Numbers(counter, 10L);
+        final Numbers second = new Numbers(counter, 10L);
+        final Set<Long> seen = new HashSet<>(0);
+        for (int idx = 0; idx < 25; ++idx) {
+            seen.add(first.next());
+            seen.add(second.next());
+        }
+        MatcherAssert.assertThat(
+            "All numbers should be unique",
+            seen,
+            Matchers.hasSize(50)
+        );
+    }
+
+}
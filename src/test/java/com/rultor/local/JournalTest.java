@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.local;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link Journal}.
+ *
+ * @since 2.0
+ */
+final class JournalTest {
+
+    @Test
+    void readsItselfBack(@TempDir final Path dir) throws Exception {
+        final File file = dir.resolve("a.log").toFile();
+        final Journal journal = new Journal(file);
+        journal.create(
+            "x/y", "x/y#1", num -> String.format("<a n='%d'/>", num)
+        );
+        journal.create("x/y", "x/y#2", num -> "<b/>");
+        journal.update("x/y#1", row -> row.with(false));
+        journal.delete("x/y#2");
+        final Journal again = new Journal(file);
+        MatcherAssert.assertThat(
+            "XML should be read back",
+            again.row("x/y#1").xml(),
+            Matchers.equalTo("<a n='1'/>")
+        );
+        MatcherAssert.assertThat(
+            "Deleted talk should not be read back",
+            again.row("x/y#2"),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            "Inactive talk should be read back as inactive",
+            again.inactive(),
+            Matchers.contains("x/y#1")
+        );
+    }
+
+    @Test
+    void neverReusesNumbers(@TempDir final Path dir) throws Exception {
+        final File file = dir.resolve("b.log").toFile();
+        final Journal journal = new Journal(file);
+        journal.create("z/z", "z/z#1", num -> "<c/>");
+        journal.delete("z/z#1");
+        final Journal again = new Journal(file);
+        again.create("z/z", "z/z#2", num -> "<d/>");
+        MatcherAssert.assertThat(
+            "Number of a deleted talk should not be given again",
+            again.name(2L),
+            Matchers.equalTo("z/z#2")
+        );
+    }
+
+    @Test
+    void compactsOnOpen(@TempDir final Path dir) throws Exception {
+        final File file = dir.resolve("c.log").toFile();
+        final Journal journal = new Journal(file);
+        journal.create("q/q", "q/q#1", num -> "<e/>");
+        for (int idx = 0; idx < 10; ++idx) {
+            journal.update("q/q#1", row -> row.with("<f/>"));
+        }
+        new Journal(file);
+        MatcherAssert.assertThat(
+            "Only the latest lines should stay in the file",
+            Files.readAllLines(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void ignoresTornLastLine(@TempDir final Path dir) throws Exception {
+        final File file = dir.resolve("d.log").toFile();
+        final Journal journal = new Journal(file);
+        journal.create("t/t", "t/t#1", num -> "<g/>");
+        Files.write(
+            file.toPath(),
+            "+\tt/t#1\tt/t\t1\ttrue\t12".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        MatcherAssert.assertThat(
+            "Torn last line should be ignored",
+            new Journal(file).row("t/t#1").xml(),
+            Matchers.equalTo("<g/>")
+        );
+        MatcherAssert.assertThat(
+            "Torn last line should be removed from the file",
+            Files.readAllLines(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void replacesOnlyTheSameRow(@TempDir final Path dir) throws Exception {
+        final Journal journal = new Journal(dir.resolve("e.log").toFile());
+        journal.create("r/r", "r/r#1", num -> "<h/>");
+        final Journal.Row row = journal.row("r/r#1");
+        journal.update("r/r#1", before -> before.with("<i/>"));
+        MatcherAssert.assertThat(
+            "Row changed by somebody else should not be replaced",
+            journal.replace(row, row.with("<j/>")),
+            Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.local;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xembly.Directives;
+
+/**
+ * Tests for {@link LcTalks}.
+ *
+ * @since 2.0
+ */
+final class LcTalksTest {
+
+    @Test
+    void createsAndModifiesTalk(@TempDir final Path dir) throws Exception {
+        final Talks talks = new LcTalks(dir.toFile());
+        final String name = "yegor256/rultor#1";
+        talks.create("yegor256/rultor", name);
+        talks.get(name).modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        MatcherAssert.assertThat(
+            "Talk should be modified",
+            talks.get(1L).read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk[@name='yegor256/rultor#1' and @number='1']",
+                "/talk[@later='true']"
+            )
+        );
+    }
+
+    @Test
+    void listsActiveAndRecentTalks(@TempDir final Path dir) throws Exception {
+        final Journal journal = LcTalksTest.journal(dir);
+        final Talks talks = new LcTalks(journal);
+        talks.create("a/b", "a/b#1");
+        talks.create("a/b", "a/b#2");
+        talks.get("a/b#1").active(false);
+        MatcherAssert.assertThat(
+            "Only active talk should be listed",
+            talks.active(),
+            Matchers.<Talk>contains(new LcTalk(journal, "a/b#2"))
+        );
+        MatcherAssert.assertThat(
+            "Inactive public talk should be recent",
+            talks.recent(),
+            Matchers.<Talk>contains(new LcTalk(journal, "a/b#1"))
+        );
+    }
+
+    @Test
+    void listsSiblingsBeforeDate(@TempDir final Path dir) throws Exception {
+        final Journal journal = LcTalksTest.journal(dir);
+        final Talks talks = new LcTalks(journal);
+        talks.create("c/d", "c/d#1");
+        TimeUnit.MILLISECONDS.sleep(10L);
+        final Date date = new Date();
+        TimeUnit.MILLISECONDS.sleep(10L);
+        talks.create("c/d", "c/d#2");
+        talks.create("e/f", "e/f#1");
+        MatcherAssert.assertThat(
+            "Only older talks of the repo should be listed",
+            talks.siblings("c/d", date),
+            Matchers.<Talk>contains(
+                new LcTalk(journal, "c/d#1")
+            )
+        );
+        MatcherAssert.assertThat(
+            "All talks of the repo should be listed, newest first",
+            talks.siblings("c/d", new Date(Long.MAX_VALUE)),
+            Matchers.<Talk>contains(
+                new LcTalk(journal, "c/d#2"),
+                new LcTalk(journal, "c/d#1")
+            )
+        );
+    }
+
+    @Test
+    void deletesTalk(@TempDir final Path dir) throws Exception {
+        final Talks talks = new LcTalks(dir.toFile());
+        talks.create("g/h", "g/h#1");
+        talks.delete("g/h#1");
+        MatcherAssert.assertThat(
+            "Talk should be gone",
+            talks.exists("g/h#1") || talks.exists(1L),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * The journal in the directory.
+     * @param dir The directory
+     * @return Journal
+     * @throws IOException If fails
+     */
+    private static Journal journal(final Path dir) throws IOException {
+        return new Journal(dir.resolve("talks.log").toFile());
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.model;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
+import com.rultor.spi.Snapshot;
+import com.rultor.spi.Talk;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Tests for {@link State}.
+ *
+ * @since 2.0
+ */
+final class StateTest {
+
+    @Test
+    void readsTypedParts() throws Exception {
+        final State state = new State(
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<talk name='abc' number='7' later='true'>",
+                    "<daemon id='a1'><title>merge</title>",
+                    "<script>ls</script><code>0</code></daemon>",
+                    "<request id='5' index='3'><type>merge</type>",
+                    "<args><arg name='head'>master</arg></args></request>",
+                    "<wire><href>http://x</href>",
+                    "<github-repo>a/b</github-repo>",
+                    "<github-issue>12</github-issue></wire>",
+                    "<archive spilled='2'>",
+                    "<log id='a0' title='build'>s3://x</log></archive>",
+                    "</talk>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Attributes of the talk should be read",
+            state.number(),
+            Matchers.equalTo(7L)
+        );
+        MatcherAssert.assertThat(
+            "Exit code of the daemon should be read",
+            state.daemon().get().code(),
+            Matchers.equalTo(Optional.of(0))
+        );
+        MatcherAssert.assertThat(
+            "Arguments of the request should be read",
+            state.request().get().args(),
+            Matchers.hasEntry("head", "master")
+        );
+        MatcherAssert.assertThat(
+            "Issue of the wire should be read",
+            state.wire().get().issue(),
+            Matchers.equalTo(Optional.of(12))
+        );
+        MatcherAssert.assertThat(
+            "Logs of the archive should be read",
+            state.archive().logs().get(0).uri(),
+            Matchers.equalTo("s3://x")
+        );
+        MatcherAssert.assertThat(
+            "Absent parts should be empty",
+            state.shell().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void finishesRequest() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("request").attr("id", "1")
+                .add("type").set("deploy").up()
+                .add("args")
+        );
+        final Request req = new State(talk.read()).request().get();
+        MatcherAssert.assertThat(
+            "Request should be finished with directives",
+            new XMLDocument(
+                new Xembler(
+                    req.finish(
+                        1000L, true, Optional.of("good"), Optional.empty()
+                    )
+                ).applyQuietly(talk.read().inner())
+            ),
+            XhtmlMatchers.hasXPaths(
+                "/talk/request[msec='1000' and success='true']",
+                "/talk/request[highlights='good' and not(tail)]"
+            )
+        );
+    }
+
+    @Test
+    void parsesSnapshotOnceUntilModified() throws Exception {
+        final Snapshot snapshot = new Snapshot(new Talk.InFile());
+        final State state = snapshot.state();
+        MatcherAssert.assertThat(
+            "State should be parsed once",
+            snapshot.state(),
+            Matchers.sameInstance(state)
+        );
+        snapshot.modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        MatcherAssert.assertThat(
+            "State should be parsed again after a modification",
+            snapshot.state().later(),
+            Matchers.is(true)
+        );
+    }
+
+}
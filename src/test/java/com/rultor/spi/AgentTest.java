@@ -4,8 +4,12 @@
  */
 package com.rultor.spi;
 
+import com.jcabi.matchers.XhtmlMatchers;
+import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 import org.xembly.Directives;
 
 /**
@@ -30,4 +34,47 @@ final class AgentTest {
         );
     }
 
+    @Test
+    void writesChangesOfAgentsEvenIfOneFails() throws Exception {
+        final Talk talk = new Talk.InFile();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Agent.Iterative(
+                tlk -> tlk.modify(
+                    new Directives().xpath("/talk").attr("later", "true")
+                ),
+                tlk -> {
+                    throw new IllegalStateException("intended");
+                }
+            ).execute(talk)
+        );
+        MatcherAssert.assertThat(
+            "Changes of the first agent should be written",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+    }
+
+    @Test
+    void writesChangesOfChainInOneGo() throws Exception {
+        final Talk talk = Mockito.spy(new Talk.InFile());
+        new Agent.Iterative(
+            tlk -> tlk.modify(
+                new Directives().xpath("/talk").attr("later", "true")
+            ),
+            tlk -> tlk.modify(
+                new Directives().xpath("/talk").attr("public", "false")
+            )
+        ).execute(talk);
+        Mockito.verify(talk, Mockito.times(1))
+            .modify(ArgumentMatchers.any());
+        MatcherAssert.assertThat(
+            "Changes of both agents should be written",
+            talk.read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk[@later='true']", "/talk[@public='false']"
+            )
+        );
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Tests for {@link Schedule}.
+ *
+ * @since 2.0
+ */
+final class ScheduleTest {
+
+    @Test
+    void makesNewTalksDue() throws Exception {
+        final Talk talk = new Talk.InFile();
+        MatcherAssert.assertThat(
+            "New talk should be due right away",
+            new Schedule().due(new ListOf<>(talk)),
+            Matchers.contains(talk)
+        );
+    }
+
+    @Test
+    void postponesIdleTalks() throws Exception {
+        final Talk talk = new Talk.InFile();
+        final Schedule schedule = new Schedule();
+        schedule.due(new ListOf<>(talk));
+        schedule.done(talk);
+        MatcherAssert.assertThat(
+            "Idle talk should not be due again",
+            schedule.due(new ListOf<>(talk)),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @Test
+    void wakesUpIdleTalks() throws Exception {
+        final Talk talk = new Talk.InFile();
+        final Schedule schedule = new Schedule();
+        schedule.due(new ListOf<>(talk));
+        schedule.done(talk);
+        schedule.wake(talk.name());
+        MatcherAssert.assertThat(
+            "Woken up talk should be due",
+            schedule.due(new ListOf<>(talk)),
+            Matchers.contains(talk)
+        );
+    }
+
+    @Test
+    void alarmsUntilNextCycle() throws Exception {
+        final Talk talk = new Talk.InFile();
+        final Schedule schedule = new Schedule();
+        schedule.wake("unknown/repo#1");
+        MatcherAssert.assertThat(
+            "Schedule should be alarmed by a talk it doesn't know yet",
+            schedule.alarmed(),
+            Matchers.is(true)
+        );
+        schedule.due(new ListOf<>(talk));
+        MatcherAssert.assertThat(
+            "Alarm should be over after the cycle",
+            schedule.alarmed(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsBusyTalksDue() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        final Schedule schedule = new Schedule();
+        schedule.due(new ListOf<>(talk));
+        schedule.done(talk);
+        MatcherAssert.assertThat(
+            "Talk with pending work should be due again",
+            schedule.due(new ListOf<>(talk)),
+            Matchers.contains(talk)
+        );
+    }
+
+    @Test
+    void backsOffRunningDaemons() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("daemon").attr("id", "abc")
+                .add("title").set("merge").up()
+                .add("script").set("ls").up()
+                .add("started").set("2024-01-01T00:00:00Z")
+        );
+        final Schedule schedule = new Schedule(
+            TimeUnit.MINUTES.toMillis(1L),
+            TimeUnit.MINUTES.toMillis(5L),
+            TimeUnit.MINUTES.toMillis(30L)
+        );
+        schedule.due(new ListOf<>(talk));
+        schedule.done(talk);
+        MatcherAssert.assertThat(
+            "Running daemon should not be checked right away",
+            schedule.due(new ListOf<>(talk)),
+            Matchers.emptyIterable()
+        );
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Tests for {@link Snapshot}.
+ *
+ * @since 2.0
+ */
+final class SnapshotTest {
+
+    @Test
+    void readsOnlyOnce() throws Exception {
+        final Talk talk = new Snapshot(new Talk.InFile());
+        MatcherAssert.assertThat(
+            "XML should be read only once",
+            talk.read(),
+            Matchers.sameInstance(talk.read())
+        );
+    }
+
+    @Test
+    void readsAgainAfterModification() throws Exception {
+        final Snapshot talk = new Snapshot(new Talk.InFile());
+        MatcherAssert.assertThat(
+            "Precondition should not hold before modification",
+            talk.holds("/talk[@later='true']"),
+            Matchers.is(false)
+        );
+        talk.modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        MatcherAssert.assertThat(
+            "Modification should be visible",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true']")
+        );
+        MatcherAssert.assertThat(
+            "Precondition should hold after modification",
+            talk.holds("/talk[@later='true']"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void writesOnlyOnFlush() throws Exception {
+        final Talk origin = new Talk.InFile();
+        final Snapshot talk = new Snapshot(origin);
+        talk.modify(
+            new Directives().xpath("/talk").attr("later", "true")
+        );
+        talk.modify(
+            new Directives().xpath("/talk").attr("public", "false")
+        );
+        MatcherAssert.assertThat(
+            "Modifications should not be written before flush",
+            origin.read(),
+            XhtmlMatchers.hasXPath("/talk[@later='false']")
+        );
+        talk.flush();
+        MatcherAssert.assertThat(
+            "All modifications should be written on flush",
+            origin.read(),
+            XhtmlMatchers.hasXPath("/talk[@later='true' and @public='false']")
+        );
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XMLDocument;
+import java.util.Collections;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Summary}.
+ *
+ * @since 2.0
+ */
+final class SummaryTest {
+
+    @Test
+    void summarizesXml() {
+        MatcherAssert.assertThat(
+            "Summary should be taken from the XML",
+            new Summary(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<talk name='a' number='1' public='true'>",
+                        "<wire><href>http://a.com</href></wire>",
+                        "<archive spilled='3'>",
+                        "<log id='1' title='first'>s3://a</log>",
+                        "<log id='2' title='second'>s3://b</log></archive>",
+                        "</talk>"
+                    )
+                )
+            ),
+            Matchers.equalTo(
+                new Summary(
+                    true, "http://a.com", "second",
+                    new MapOf<>(
+                        new MapEntry<>("1", "first"),
+                        new MapEntry<>("2", "second")
+                    ),
+                    3L
+                )
+            )
+        );
+    }
+
+    @Test
+    void summarizesEmptyTalk() {
+        MatcherAssert.assertThat(
+            "Empty talk should not be public",
+            new Summary(new XMLDocument("<talk name='b' number='2'/>")),
+            Matchers.equalTo(
+                new Summary(false, "", "", Collections.emptyMap(), 0L)
+            )
+        );
+    }
+
+}
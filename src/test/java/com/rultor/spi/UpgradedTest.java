@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Upgraded}.
+ *
+ * @since 2.0
+ */
+final class UpgradedTest {
+
+    @Test
+    void upgradesOldDocument() {
+        MatcherAssert.assertThat(
+            "Old document should be upgraded and stamped",
+            new Upgraded(
+                new XMLDocument("<talk name='a' number='1'/>")
+            ).get(),
+            XhtmlMatchers.hasXPaths(
+                "/talk[@later='false' and @public='true']",
+                String.format("/talk[@version='%s']", Talk.VERSION)
+            )
+        );
+    }
+
+    @Test
+    void skipsCurrentDocument() {
+        final XML xml = new XMLDocument(
+            String.format(
+                "<talk name='b' number='2' later='true' version='%s'/>",
+                Talk.VERSION
+            )
+        );
+        MatcherAssert.assertThat(
+            "Current document should not be transformed",
+            new Upgraded(xml).get(),
+            Matchers.sameInstance(xml)
+        );
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Xpath} against {@link XML#nodes(String)} and
+ * {@link XML#xpath(String)}, for XPath 1.0 expressions, which agents
+ * use in their preconditions and to read talks.
+ *
+ * <p>It is not a test, run it with JMH, after {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:... org.openjdk.jmh.Main XpathBench}.
+ * </p>
+ *
+ * @since 2.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@SuppressWarnings("PMD.JUnit4TestShouldUseTestAnnotation")
+public class XpathBench {
+
+    /**
+     * Precondition of EndsDaemon and other daemon agents.
+     */
+    private static final String RUNNING =
+        "/talk/daemon[started and not(code) and not(ended)]";
+
+    /**
+     * Name of the talk, which most agents read.
+     */
+    private static final String NAME = "/talk/@name";
+
+    /**
+     * The talk.
+     */
+    private final XML xml = new XMLDocument(
+        String.join(
+            "",
+            "<talk name='a/b#1' number='1' later='true'>",
+            "<wire><href>http://example.com</href>",
+            "<github-repo>a/b</github-repo><github-issue>1</github-issue>",
+            "</wire><request id='a1b2c3'><author>yegor256</author>",
+            "<type>merge</type><args/></request>",
+            "<daemon id='f1'><title>merge</title><script>ls</script>",
+            "<dir>/tmp/abc</dir><started>2020-01-01T00:00:00Z</started>",
+            "</daemon><shell id='s1'><host>localhost</host><port>22</port>",
+            "<login>rultor</login><key>secret</key></shell></talk>"
+        )
+    );
+
+    /**
+     * Precondition, compiled once.
+     * @return TRUE if it holds
+     */
+    @Benchmark
+    public boolean runningByXpath() {
+        return new Xpath(XpathBench.RUNNING).holds(this.xml);
+    }
+
+    /**
+     * Precondition, compiled on every call.
+     * @return TRUE if it holds
+     */
+    @Benchmark
+    public boolean runningByNodes() {
+        return !this.xml.nodes(XpathBench.RUNNING).isEmpty();
+    }
+
+    /**
+     * Name, compiled once.
+     * @return The name
+     */
+    @Benchmark
+    public String nameByXpath() {
+        return new Xpath(XpathBench.NAME).values(this.xml).get(0);
+    }
+
+    /**
+     * Name, compiled on every call.
+     * @return The name
+     */
+    @Benchmark
+    public String nameByJcabi() {
+        return this.xml.xpath(XpathBench.NAME).get(0);
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Xpath}.
+ *
+ * @since 2.0
+ */
+final class XpathTest {
+
+    @Test
+    void findsValues() {
+        MatcherAssert.assertThat(
+            "Values should be found, the same as by jcabi-xml",
+            new Xpath("/talk/daemon/@id | /talk/@name").values(
+                new XMLDocument(
+                    "<talk name='a'><daemon id='f1'/></talk>"
+                )
+            ),
+            Matchers.contains("a", "f1")
+        );
+    }
+
+    @Test
+    void readsXpathOneTheSameAsJcabiXml() {
+        final XML xml = new XMLDocument(
+            String.join(
+                "",
+                "<talk name='b'><daemon id='f2'><started>now</started>",
+                "</daemon></talk>"
+            )
+        );
+        for (final String expr : new String[] {
+            "/talk/@name", "//daemon/@id", "/talk/daemon/started/text()",
+            "/talk/daemon[started and not(ended)]/@id",
+        }) {
+            MatcherAssert.assertThat(
+                String.format("Values of \"%s\" should be the same", expr),
+                new Xpath(expr).values(xml),
+                Matchers.equalTo(xml.xpath(expr))
+            );
+        }
+    }
+
+    @Test
+    void holdsTheSameAsJcabiXml() {
+        final XML xml = new XMLDocument(
+            String.join(
+                "",
+                "<talk name='c'><daemon id='f3'><started>now</started>",
+                "<dir>/tmp</dir></daemon><shell id='s'><host>h</host>",
+                "</shell></talk>"
+            )
+        );
+        for (final String expr : new String[] {
+            "/talk/daemon[started and not(code) and not(ended)]",
+            "/talk/daemon[started and code and ended and dir]",
+            "/talk/shell[host and port and login and key]",
+            "/talk[daemon and not(shell)]", "/talk/daemon/dir",
+        }) {
+            MatcherAssert.assertThat(
+                String.format("\"%s\" should hold the same", expr),
+                new Xpath(expr).holds(xml),
+                Matchers.equalTo(!xml.nodes(expr).isEmpty())
+            );
+        }
+    }
+
+    @Test
+    void readsXpathOneInManyThreads() throws Exception {
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<List<String>>> futures = new ArrayList<>(64);
+            for (int idx = 0; idx < 64; ++idx) {
+                final XML xml = new XMLDocument(
+                    String.format("<talk name='t%d'/>", idx)
+                );
+                futures.add(
+                    service.submit(() -> new Xpath("/talk/@name").values(xml))
+                );
+            }
+            for (int idx = 0; idx < futures.size(); ++idx) {
+                MatcherAssert.assertThat(
+                    "Every thread should read its own talk",
+                    futures.get(idx).get(),
+                    Matchers.contains(String.format("t%d", idx))
+                );
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void understandsXpathTwo() {
+        MatcherAssert.assertThat(
+            "XPath 2.0 functions should work",
+            new Xpath(
+                // @checkstyle LineLength (1 line)
+                "/talk[(current-dateTime() - xs:dateTime(daemon/started)) div xs:dayTimeDuration('PT1M') > 10]"
+            ).holds(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<talk><daemon><started>2020-01-01T00:00:00Z",
+                        "</started></daemon></talk>"
+                    )
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsNothing() {
+        MatcherAssert.assertThat(
+            "Nothing should be found",
+            new Xpath("/talk/daemon[not(started)]").holds(
+                new XMLDocument("<talk><daemon><started/></daemon></talk>")
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsBrokenExpression() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Xpath("/talk[").compiled()
+        );
+    }
+
+}
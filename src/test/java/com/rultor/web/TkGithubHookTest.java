@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Schedule;
+import com.rultor.spi.Talks;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.Request;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeaders;
+import org.takes.rs.RsPrint;
+
+/**
+ * Test case for {@link TkGithubHook}.
+ * @since 2.0
+ */
+final class TkGithubHookTest {
+
+    /**
+     * Payload of a comment with a mention.
+     */
+    private static final String PAYLOAD = String.join(
+        "",
+        "{\"action\":\"created\",",
+        "\"repository\":{\"full_name\":\"test/hook\"},",
+        "\"issue\":{\"number\":5,",
+        "\"html_url\":\"https://github.com/test/hook/issues/5\"},",
+        "\"comment\":{\"body\":\"@rultor hello\",",
+        "\"user\":{\"login\":\"jeff\"}}}"
+    );
+
+    @Test
+    void activatesTalkOnSignedMention() throws Exception {
+        final Talks talks = new Talks.InDir();
+        final Schedule schedule = new Schedule();
+        new RsPrint(
+            new TkGithubHook(talks, schedule, "rultor", "secret").act(
+                TkGithubHookTest.request(
+                    String.format(
+                        "sha256=%s",
+                        new HmacUtils(HmacAlgorithms.HMAC_SHA_256, "secret")
+                            .hmacHex(TkGithubHookTest.PAYLOAD)
+                    )
+                )
+            )
+        ).printBody();
+        MatcherAssert.assertThat(
+            "Talk should be activated with a wire",
+            talks.get("test/hook#5").read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk[@later='true']",
+                "/talk/wire[github-repo='test/hook' and github-issue='5']"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Schedule should be woken up",
+            schedule.alarmed(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsWrongSignature() throws Exception {
+        final Talks talks = new Talks.InDir();
+        MatcherAssert.assertThat(
+            "Payload with a wrong signature should be rejected",
+            new RsPrint(
+                new TkGithubHook(talks, new Schedule(), "rultor", "secret")
+                    .act(TkGithubHookTest.request("sha256=0000"))
+            ).printHead(),
+            Matchers.containsString("403")
+        );
+        MatcherAssert.assertThat(
+            "Talk should not be created",
+            talks.exists("test/hook#5"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Make a request with the payload.
+     * @param signature The signature
+     * @return Request
+     */
+    private static Request request(final String signature) {
+        return new RqWithHeaders(
+            new RqFake("POST", "/hooks/github", TkGithubHookTest.PAYLOAD),
+            "X-GitHub-Event: issue_comment",
+            String.format("X-Hub-Signature-256: %s", signature)
+        );
+    }
+
+}
@@ -5,11 +5,14 @@
 package com.rultor.web;
 
 import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
+import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.takes.facets.fork.RqRegex;
 import org.takes.facets.fork.TkRegex;
 import org.takes.rq.RqFake;
@@ -73,4 +76,58 @@ final class TkSiblingsTest {
         );
     }
 
+    /**
+     * TkSiblings can list all logs in one order, the oldest first.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void listsMovedLogsBeforeLogsInTalk() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives()
+                .xpath("/talk")
+                .add("archive").attr("spilled", "2")
+                .add("log").attr("title", "third")
+                .attr("id", "c3").set("s3://test")
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(new ListOf<>(talk)).when(talks)
+            .siblings(Mockito.anyString(), Mockito.any());
+        Mockito.doReturn(
+            new ListOf<>(
+                new XMLDocument(
+                    "<log id='c2' title='second'>s3://2</log>"
+                ).nodes("/log").get(0),
+                new XMLDocument(
+                    "<log id='c1' title='first'>s3://1</log>"
+                ).nodes("/log").get(0)
+            )
+        ).when(talks).archive(Mockito.anyString());
+        MatcherAssert.assertThat(
+            "Logs should be listed the oldest first",
+            XhtmlMatchers.xhtml(
+                new TextOf(
+                    new RsPrint(
+                        new TkSiblings(talks).act(
+                            new RqRegex.Fake(
+                                new RqWithHeader(
+                                    new RqFake("GET", "/bb"),
+                                    "Accept", "text/xml"
+                                ),
+                                "(.*)",
+                                "y"
+                            )
+                        )
+                    ).body()
+                ).asString()
+            ),
+            XhtmlMatchers.hasXPaths(
+                "//archive[count(log)=3]",
+                "//archive/log[1][id='c1']",
+                "//archive/log[2][id='c2']",
+                "//archive/log[3][id='c3']"
+            )
+        );
+    }
+
 }